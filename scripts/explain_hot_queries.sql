@@ -0,0 +1,56 @@
+-- 핫 쿼리 실행 계획 확인용 (V2__typed_timestamps_and_indexes 적용 전/후에 각각 실행해서 비교)
+-- 사용법: 빈 스키마에 V1 적용 -> 이 파일의 시드 실행 -> EXPLAIN 캡처 -> V2 적용 -> ANALYZE TABLE 후 EXPLAIN 다시 캡처
+-- 주의: 시드 데이터는 created_at 문자열 형식(V1)에 맞춰져 있다.
+
+-- ---------------------------------------------------------------- seed (V1)
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT INTO `user` (user_id, name, nation, language, role, ban)
+WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 5000)
+SELECT n, CONCAT('user', n), ELT(1 + n % 4, 'KR', 'US', 'JP', 'CN'), 'KO', 'ROLE_USER', 0 FROM seq;
+
+INSERT INTO debate (created_at, views, vote_cnt, comment_cnt, agree_cnt, disagree_cnt, category)
+WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000)
+SELECT DATE_FORMAT(NOW(6) - INTERVAL n MINUTE, '%Y-%m-%dT%H:%i:%s.%f'),
+       n % 997, n % 113, n % 57, n % 61, n % 53, ELT(1 + n % 5, '정치', '경제', '사회', '문화', '국제')
+FROM seq;
+
+INSERT INTO translated_debate (debate_id, title, content, language)
+SELECT d.debate_id, CONCAT('title ', d.debate_id), 'content', l.language
+FROM debate d
+CROSS JOIN (SELECT 'KO' language UNION ALL SELECT 'EN' UNION ALL SELECT 'JA' UNION ALL SELECT 'ZH'
+            UNION ALL SELECT 'DE' UNION ALL SELECT 'FR' UNION ALL SELECT 'ES' UNION ALL SELECT 'RU') l;
+
+INSERT INTO comment (debate_id, user_id, created_at, reply_cnt, heart)
+SELECT 1 + (n % 2000), 1 + (n % 5000),
+       DATE_FORMAT(NOW(6) - INTERVAL n SECOND, '%Y-%m-%dT%H:%i:%s.%f'), 0, n % 31
+FROM (WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 200000) SELECT n FROM seq) s;
+
+INSERT INTO vote (debate_id, user_id, `option`)
+SELECT 1 + (n % 20000), 1 + (n DIV 20000), IF(n % 2 = 0, '찬성', '반대')
+FROM (WITH RECURSIVE seq(n) AS (SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < 199999) SELECT n FROM seq) s;
+
+INSERT INTO debate_reaction (debate_id, user_id, `option`)
+SELECT debate_id, user_id, '좋아요' FROM vote WHERE vote_id % 3 = 0;
+
+ANALYZE TABLE debate, comment, vote, debate_reaction, translated_debate;
+
+-- ---------------------------------------------------------------- before (V1)
+EXPLAIN SELECT * FROM debate WHERE created_at LIKE CONCAT(DATE_FORMAT(NOW(), '%Y-%m-%d'), '%');
+EXPLAIN SELECT * FROM debate
+        WHERE created_at BETWEEN DATE_FORMAT(NOW() - INTERVAL 7 DAY, '%Y-%m-%dT%H:%i:%s')
+                             AND DATE_FORMAT(NOW(), '%Y-%m-%dT%H:%i:%s')
+        ORDER BY (views + comment_cnt) DESC LIMIT 1;
+EXPLAIN SELECT * FROM vote WHERE debate_id = 1234 AND user_id = 7;
+EXPLAIN SELECT * FROM debate_reaction WHERE debate_id = 1234 AND user_id = 7;
+EXPLAIN SELECT * FROM translated_debate WHERE debate_id = 1234 AND language = 'EN';
+EXPLAIN SELECT * FROM comment WHERE debate_id = 42 ORDER BY created_at DESC LIMIT 20;
+
+-- ---------------------------------------------------------------- after (V2 적용 후)
+-- EXPLAIN SELECT * FROM debate WHERE created_at >= CURDATE() AND created_at < CURDATE() + INTERVAL 1 DAY;
+-- EXPLAIN SELECT * FROM debate WHERE created_at BETWEEN NOW() - INTERVAL 7 DAY AND NOW()
+--         ORDER BY (views + comment_cnt) DESC LIMIT 1;
+-- EXPLAIN SELECT * FROM vote WHERE debate_id = 1234 AND user_id = 7;
+-- EXPLAIN SELECT * FROM debate_reaction WHERE debate_id = 1234 AND user_id = 7;
+-- EXPLAIN SELECT * FROM translated_debate WHERE debate_id = 1234 AND language = 'EN';
+-- EXPLAIN SELECT * FROM comment WHERE debate_id = 42 ORDER BY created_at DESC LIMIT 20;
@@ -0,0 +1,54 @@
+package util;
+
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 토큰 처리 비용 비교 (./gradlew jmh)
+ * - uncached: 기존 방식. getUserId / getRole 마다 파서를 새로 만들고 HMAC 검증
+ * - cached: 재사용 파서 + 클레임 캐시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8)
+                , Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtUtil = new JwtUtil(SECRET, 10_000);
+        token = Jwts.builder()
+                .claim("userId", 1L)
+                .claim("role", "ROLE_USER")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(secretKey).compact();
+    }
+
+    @Benchmark
+    public void uncached(Blackhole bh) {
+        bh.consume(Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().get("userId", Long.class));
+        bh.consume(Jwts.parser().verifyWith(secretKey).build()
+                .parseSignedClaims(token).getPayload().get("role", String.class));
+    }
+
+    @Benchmark
+    public void cached(Blackhole bh) {
+        bh.consume(jwtUtil.getUserId(token));
+        bh.consume(jwtUtil.getRole(token));
+    }
+}
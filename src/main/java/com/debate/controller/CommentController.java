@@ -20,7 +20,11 @@ public class CommentController {
 
     @GetMapping
     public ResponseEntity<?> getComments(@RequestHeader("Authorization") String token, long debateId,
-                                         String sort, int page, int size){
+                                         String sort, @RequestParam(defaultValue = "0") int page, int size,
+                                         @RequestParam(required = false) String cursor){
+        if(cursor != null) { // 커서 모드 (첫 페이지는 cursor= 빈 값)
+            return commentService.getCommentsByCursor(token, debateId, sort, cursor, size);
+        }
         return commentService.getComments(token, debateId, sort, page, size);
     }
 
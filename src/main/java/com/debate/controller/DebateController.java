@@ -19,7 +19,11 @@ public class DebateController {
 
     @GetMapping
     public ResponseEntity<?> getDebates(@RequestHeader("Authorization") String token,
-                                       int page, int size, String sort ,String category) {
+                                       @RequestParam(defaultValue = "0") int page, int size, String sort ,String category,
+                                       @RequestParam(required = false) String cursor) {
+        if(cursor != null) { // 커서 모드 (첫 페이지는 cursor= 빈 값)
+            return debateService.getDebatesByCursor(token, cursor, size, sort, category);
+        }
         return debateService.getDebates(token, page, size, sort, category);
     }
 
@@ -35,6 +39,12 @@ public class DebateController {
         return debateService.searchDebate(token, page, size, sort, category, keyword, searchBy);
     }
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(@RequestHeader("Authorization") String token,
+                                          String prefix, @RequestParam(defaultValue = "10") int size) {
+        return debateService.autocomplete(token, prefix, size);
+    }
+
     @PostMapping("/emotion/{debateId}")
     public ResponseEntity<?> reactToDebate(@RequestHeader("Authorization") String token,
                                            @PathVariable long debateId,
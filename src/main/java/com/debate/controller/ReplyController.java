@@ -21,8 +21,13 @@ public class ReplyController {
 
     @GetMapping
     public ResponseEntity<?> getReply(@RequestHeader("Authorization") String token,
-                                      long commentId){
-        return replyService.getReply(token, commentId);
+                                      long commentId,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(required = false) Integer size){
+        if(cursor == null && size == null) { // 기존 클라이언트 호환 (최대 200개)
+            return replyService.getReply(token, commentId);
+        }
+        return replyService.getReplyPage(token, commentId, cursor, size == null ? 20 : size);
     }
 
     @PatchMapping("/{replyId}")
@@ -0,0 +1,18 @@
+package com.debate.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class AutocompleteResDto {
+    Long debateId;
+    String title;
+
+    @Builder
+    public AutocompleteResDto(Long debateId, String title) {
+        this.debateId = debateId;
+        this.title = title;
+    }
+}
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 public class CommentResDto {
@@ -14,13 +16,13 @@ public class CommentResDto {
     String isState;
     String content;
     String userName;
-    String createdAt;
+    LocalDateTime createdAt;
     String nation;
     String voteState;
     long userId;
 
     @Builder
-    public CommentResDto(Long commentId, Long like, Long dislike, Long reply, String isState, String content, String userName, String createdAt, String voteState,long userId, String nation) {
+    public CommentResDto(Long commentId, Long like, Long dislike, Long reply, String isState, String content, String userName, LocalDateTime createdAt, String voteState,long userId, String nation) {
         this.commentId = commentId;
         this.like = like;
         this.dislike = dislike;
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 public class DebateResDto {
@@ -22,7 +24,7 @@ public class DebateResDto {
     String isVotedState;
     String title;
     String content;
-    String createdAt;
+    LocalDateTime createdAt;
     String category;
     String nation;
 
@@ -30,7 +32,7 @@ public class DebateResDto {
     public DebateResDto(Long debateId, Long views,
                         Long like, Long dislike, Long sad, Long angry, Long hm,
                         Long voteCnt, Long commentCnt, double disagreePercent, double agreePercent,
-                        String title, String content, String createdAt, String category, String nation) {
+                        String title, String content, LocalDateTime createdAt, String category, String nation) {
         this.debateId = debateId;
         this.views = views;
         this.like = like;
@@ -4,6 +4,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 public class ReplyResDto {
@@ -13,13 +15,13 @@ public class ReplyResDto {
     String isState;
     String content;
     String userName;
-    String createdAt;
+    LocalDateTime createdAt;
     String nation;
     String voteState;
     long userId;
 
     @Builder
-    public ReplyResDto(Long replyId, Long like, Long dislike, String content, String isState, String userName, String createdAt, long userId, String nation, String voteState) {
+    public ReplyResDto(Long replyId, Long like, Long dislike, String content, String isState, String userName, LocalDateTime createdAt, long userId, String nation, String voteState) {
         this.replyId = replyId;
         this.like = like;
         this.dislike = dislike;
@@ -0,0 +1,18 @@
+package com.debate.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class TranslationDispatchDto {   // translation-jobs 토픽 메시지
+    Long outboxId;
+    int attempts;   // 발행 시점의 시도 횟수. 다시 발행된 작업의 이전 메시지를 걸러낸다
+
+    @Builder
+    public TranslationDispatchDto(Long outboxId, int attempts) {
+        this.outboxId = outboxId;
+        this.attempts = attempts;
+    }
+}
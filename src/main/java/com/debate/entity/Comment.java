@@ -4,12 +4,17 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "comment")
+@DynamicUpdate // 카운터 컬럼은 CounterBuffer 가 갱신하므로 변경된 컬럼만 UPDATE
+@Table(name = "comment",
+        indexes = {
+                @Index(name = "idx_comment_debate_created_at", columnList = "debate_id, created_at"),
+                @Index(name = "idx_comment_debate_heart", columnList = "debate_id, heart, comment_id")})
 @NoArgsConstructor
 public class Comment {
     @Id
@@ -24,22 +29,30 @@ public class Comment {
     @JoinColumn(name = "user_id")
     private User user;
 
-    private String createdAt;
+    private LocalDateTime createdAt;
     private Long replyCnt;
     private Long heart;
 
+    @Column(length = 8)
+    private String sourceLanguage;  // 작성 언어. 지연 번역 모드에서 원문 행을 찾는 기준
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long dislikeCnt = 0L;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now().toString();
+        this.createdAt = LocalDateTime.now();
     }
 
     @Builder
-    public Comment(Long commentId, Debate debate, User user, String createdAt, Long replyCnt, Long heart) {
+    public Comment(Long commentId, Debate debate, User user, LocalDateTime createdAt, Long replyCnt, Long heart,
+                   String sourceLanguage) {
         this.commentId = commentId;
         this.debate = debate;
         this.user = user;
         this.createdAt = createdAt;
         this.replyCnt = replyCnt;
         this.heart = heart;
+        this.sourceLanguage = sourceLanguage;
     }
 }
@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "comment_reaction")
+@Table(name = "comment_reaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_comment_reaction_comment_user", columnNames = {"comment_id", "user_id"}))
 @NoArgsConstructor
 public class CommentReaction {
     @Id
@@ -4,19 +4,29 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "debate")
+@DynamicUpdate // 카운터 컬럼은 CounterBuffer 가 갱신하므로 변경된 컬럼만 UPDATE
+@Table(name = "debate", indexes = {
+        @Index(name = "idx_debate_created_at", columnList = "created_at"),
+        @Index(name = "idx_debate_category_created_at", columnList = "category, created_at"),
+        @Index(name = "idx_debate_views", columnList = "views, debate_id"),
+        @Index(name = "idx_debate_comment_cnt", columnList = "comment_cnt, debate_id"),
+        @Index(name = "idx_debate_vote_cnt", columnList = "vote_cnt, debate_id"),
+        @Index(name = "idx_debate_category_views", columnList = "category, views, debate_id"),
+        @Index(name = "idx_debate_category_comment_cnt", columnList = "category, comment_cnt, debate_id"),
+        @Index(name = "idx_debate_category_vote_cnt", columnList = "category, vote_cnt, debate_id")})
 @NoArgsConstructor
 public class Debate {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long debateId;
 
-    private String createdAt;
+    private LocalDateTime createdAt;
     private Long views = 0L;
     private Long voteCnt = 0L;
     private Long commentCnt = 0L;
@@ -24,13 +34,25 @@ public class Debate {
     private Long disagreeCnt = 0L;
     private String category;
 
+    // 감정표현 집계 (debate_reaction 토글 시 원자적으로 증감)
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long likeCnt = 0L;
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long dislikeCnt = 0L;
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long sadCnt = 0L;
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long angryCnt = 0L;
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long hmCnt = 0L;
+
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now().toString();
+        this.createdAt = LocalDateTime.now();
     }
 
     @Builder
-    public Debate(Long debateId, String createdAt, Long views, Long voteCnt, Long commentCnt, Long agreeCnt, Long disagreeCnt, String category) {
+    public Debate(Long debateId, LocalDateTime createdAt, Long views, Long voteCnt, Long commentCnt, Long agreeCnt, Long disagreeCnt, String category) {
         this.debateId = debateId;
         this.createdAt = createdAt;
         this.views = views;
@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "debate_reaction")
+@Table(name = "debate_reaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_debate_reaction_debate_user", columnNames = {"debate_id", "user_id"}))
 @NoArgsConstructor
 public class DebateReaction {
     @Id
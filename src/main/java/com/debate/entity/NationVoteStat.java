@@ -0,0 +1,36 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@Table(name = "nation_vote_stat",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"debate_id", "nation", "vote_option"}))
+@NoArgsConstructor
+public class NationVoteStat {   // 토론별 (국가, 찬반) 투표 수
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "debate_id")
+    private Long debateId;
+
+    private String nation;
+
+    @Column(name = "vote_option")
+    private String option;
+
+    private Long cnt;
+
+    @Builder
+    public NationVoteStat(Long id, Long debateId, String nation, String option, Long cnt) {
+        this.id = id;
+        this.debateId = debateId;
+        this.nation = nation;
+        this.option = option;
+        this.cnt = cnt;
+    }
+}
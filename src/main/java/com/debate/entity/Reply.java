@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "reply")
+@Table(name = "reply",
+        indexes = @Index(name = "idx_reply_comment_created_at", columnList = "comment_id, created_at"))
 @NoArgsConstructor
 public class Reply {
     @Id
@@ -24,18 +25,27 @@ public class Reply {
     @JoinColumn(name = "user_id")
     private User user;
 
-    private String createdAt;
+    private LocalDateTime createdAt;
+
+    @Column(length = 8)
+    private String sourceLanguage;  // 작성 언어. 지연 번역 모드에서 원문 행을 찾는 기준
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long heart = 0L;
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private Long dislikeCnt = 0L;
 
     @PrePersist
     public void prePersist() {
-        this.createdAt = LocalDateTime.now().toString();
+        this.createdAt = LocalDateTime.now();
     }
 
     @Builder
-    public Reply(Long replyId, Comment comment, User user, String createdAt) {
+    public Reply(Long replyId, Comment comment, User user, LocalDateTime createdAt, String sourceLanguage) {
         this.replyId = replyId;
         this.comment = comment;
         this.user = user;
         this.createdAt = createdAt;
+        this.sourceLanguage = sourceLanguage;
     }
 }
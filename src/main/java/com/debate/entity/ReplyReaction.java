@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "reply_reaction")
+@Table(name = "reply_reaction",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reply_reaction_reply_user", columnNames = {"reply_id", "user_id"}))
 @NoArgsConstructor
 public class ReplyReaction {
     @Id
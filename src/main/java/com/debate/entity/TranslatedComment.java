@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "translated_comment")
+@Table(name = "translated_comment",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translated_comment_comment_language", columnNames = {"comment_id", "language"}))
 @NoArgsConstructor
 public class TranslatedComment {
     @Id
@@ -8,7 +8,8 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @Entity
-@Table(name = "translated_debate")
+@Table(name = "translated_debate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translated_debate_debate_language", columnNames = {"debate_id", "language"}))
 public class TranslatedDebate {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "translated_reply")
+@Table(name = "translated_reply",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translated_reply_reply_language", columnNames = {"reply_id", "language"}))
 @NoArgsConstructor
 public class TranslatedReply {
     @Id
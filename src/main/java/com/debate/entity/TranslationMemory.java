@@ -0,0 +1,46 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "translation_memory",
+        uniqueConstraints = @UniqueConstraint(name = "uk_translation_memory_key",
+                columnNames = {"source_lang", "text_hash", "target_lang"}),
+        indexes = @Index(name = "idx_translation_memory_created_at", columnList = "created_at"))
+@NoArgsConstructor
+public class TranslationMemory {   // (원문 언어, 대상 언어, 원문 해시) -> 번역문
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_lang", length = 8)
+    private String sourceLang;
+
+    @Column(name = "target_lang", length = 8)
+    private String targetLang;
+
+    @Column(name = "text_hash", length = 64)
+    private String textHash;    // SHA-256 hex
+
+    @Column(columnDefinition = "TEXT")
+    private String translatedText;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TranslationMemory(Long id, String sourceLang, String targetLang, String textHash,
+                             String translatedText, LocalDateTime createdAt) {
+        this.id = id;
+        this.sourceLang = sourceLang;
+        this.targetLang = targetLang;
+        this.textHash = textHash;
+        this.translatedText = translatedText;
+        this.createdAt = createdAt;
+    }
+}
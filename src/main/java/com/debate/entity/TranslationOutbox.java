@@ -0,0 +1,73 @@
+package com.debate.entity;
+
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "translation_outbox",
+        indexes = {
+                @Index(name = "idx_translation_outbox_claim", columnList = "status, priority, next_attempt_at"),
+                @Index(name = "idx_translation_outbox_aggregate", columnList = "aggregate_type, aggregate_id, status")
+        })
+@NoArgsConstructor
+public class TranslationOutbox {   // 번역 작업. 글 저장과 같은 트랜잭션에서 기록되고, 처리가 끝나면 삭제된다
+    public static final String PENDING = "PENDING";
+    public static final String PROCESSING = "PROCESSING"; // 카프카로 발행됨
+    public static final String RUNNING = "RUNNING";       // 컨슈머 하나가 잡아서 실행 중
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "aggregate_type", length = 16)
+    private String aggregateType;   // debate, comment, reply
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    private boolean edit;           // 수정이면 기존 번역 행을 덮어쓴다
+
+    private int priority;           // 작은 값부터 처리 (TranslationJob.priority)
+
+    @Column(columnDefinition = "TEXT")
+    private String payload;         // 요청 DTO (JSON)
+
+    @Column(length = 16)
+    private String status;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime lockedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    private LocalDateTime createdAt;
+
+    @Builder
+    public TranslationOutbox(Long id, String aggregateType, Long aggregateId, boolean edit, int priority,
+                             String payload, String status, int attempts, LocalDateTime nextAttemptAt, LocalDateTime lockedAt,
+                             String lastError, LocalDateTime createdAt) {
+        this.id = id;
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.edit = edit;
+        this.priority = priority;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedAt = lockedAt;
+        this.lastError = lastError;
+        this.createdAt = createdAt;
+    }
+}
@@ -7,7 +7,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Data
-@Table(name = "vote")
+@Table(name = "vote",
+        uniqueConstraints = @UniqueConstraint(name = "uk_vote_debate_user", columnNames = {"debate_id", "user_id"}))
 @NoArgsConstructor
 public class Vote {
     @Id
@@ -25,11 +26,14 @@ public class Vote {
     @Column(name = "`option`")
     private String option;
 
+    private String nation; // 투표 당시 국가. 나중에 국가를 바꿔도 취소할 때 같은 칸(nation_vote_stat)에서 뺀다
+
     @Builder
-    public Vote(Long voteId, Debate debate, User user, String option) {
+    public Vote(Long voteId, Debate debate, User user, String option, String nation) {
         this.voteId = voteId;
         this.debate = debate;
         this.user = user;
         this.option = option;
+        this.nation = nation;
     }
 }
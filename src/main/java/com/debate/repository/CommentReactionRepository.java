@@ -2,11 +2,21 @@ package com.debate.repository;
 
 import com.debate.entity.CommentReaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CommentReactionRepository extends JpaRepository<CommentReaction, Long> {
     long countByComment_CommentIdAndOption(Long commentId, String 싫어요);
 
     CommentReaction findByComment_CommentIdAndUser_UserId(long commentId, long userId);
+
+    @Query("SELECT r.comment.commentId, r.option FROM CommentReaction r " +
+            "WHERE r.comment.commentId IN :commentIds AND r.user.userId = :userId")
+    List<Object[]> findOptionsByCommentIdsAndUserId(@Param("commentIds") Collection<Long> commentIds,
+                                                    @Param("userId") Long userId);
 }
@@ -3,10 +3,34 @@ package com.debate.repository;
 import com.debate.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+    @EntityGraph(attributePaths = {"debate", "user"})
     Page<Comment> findByDebate_DebateId(long debateId, Pageable pageable);
+
+    long countByDebate_DebateId(long debateId);
+
+    // 좋아요(heart)는 CounterBuffer 에서 모아서 반영
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.dislikeCnt = c.dislikeCnt + :delta WHERE c.commentId = :commentId")
+    int addDislike(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(MAX(c.commentId), 0) FROM Comment c")
+    long findMaxId();
+
+    // heart 는 CounterBuffer 에 아직 반영되지 않은 증분이 있을 수 있어서 다시 세지 않는다
+    @Modifying
+    @Query(value = """
+    UPDATE comment c SET
+    dislike_cnt = (SELECT COUNT(*) FROM comment_reaction r WHERE r.comment_id = c.comment_id AND r.`option` = '싫어요')
+    WHERE c.comment_id >= :fromId AND c.comment_id < :toId
+    """, nativeQuery = true)
+    int recountDislikes(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,10 @@
+package com.debate.repository;
+
+import com.debate.entity.Comment;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    // lastValue 가 null 이면 첫 페이지
+    List<Comment> findKeysetPage(long debateId, KeysetSort sort, Object lastValue, Long lastId, int limit);
+}
@@ -0,0 +1,29 @@
+package com.debate.repository;
+
+import com.debate.entity.Comment;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Comment> findKeysetPage(long debateId, KeysetSort sort, Object lastValue, Long lastId, int limit) {
+        String jpql = "SELECT c FROM Comment c JOIN FETCH c.debate JOIN FETCH c.user "
+                + "WHERE c.debate.debateId = :debateId"
+                + (lastValue == null ? "" : sort.after("c", "commentId"))
+                + sort.orderBy("c", "commentId");
+
+        TypedQuery<Comment> query = em.createQuery(jpql, Comment.class)
+                .setParameter("debateId", debateId)
+                .setMaxResults(limit);
+        if (lastValue != null) {
+            query.setParameter("lastValue", lastValue).setParameter("lastId", lastId);
+        }
+        return query.getResultList();
+    }
+}
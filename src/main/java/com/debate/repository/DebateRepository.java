@@ -4,20 +4,27 @@ import com.debate.entity.Debate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface DebateRepository extends JpaRepository<Debate, Long> {
+public interface DebateRepository extends JpaRepository<Debate, Long>, DebateRepositoryCustom {
     @Query("SELECT d FROM Debate d WHERE " +
             "(:category = '전체' OR d.category = :category)")
     Page<Debate> findByCategory(String category, Pageable pageable);
 
-    @Query("SELECT d FROM Debate d WHERE d.createdAt LIKE CONCAT(:today, '%')")
-    List<Debate> findAllByCreatedAtToday(@Param("today") String today);
+    @Query("SELECT COUNT(d) FROM Debate d WHERE " +
+            "(:category = '전체' OR d.category = :category)")
+    long countByCategory(@Param("category") String category);
+
+    @Query("SELECT d FROM Debate d WHERE d.createdAt >= :start AND d.createdAt < :end")
+    List<Debate> findAllCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query("""
     SELECT d FROM Debate d
@@ -25,7 +32,7 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
     ORDER BY (d.views + d.commentCnt) DESC
     Limit 1
     """)
-    Debate findTopDebateInLastWeek(@Param("start") String start, @Param("end") String end);
+    Debate findTopDebateInLastWeek(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
     @Query(value = """
     SELECT * FROM debate 
@@ -34,5 +41,42 @@ public interface DebateRepository extends JpaRepository<Debate, Long> {
     ORDER BY ABS(agree_cnt - disagree_cnt) ASC 
     LIMIT 1
     """, nativeQuery = true)
-    Debate findMostBalancedDebateThisWeek(@Param("start") String start, @Param("end") String end);
+    Debate findMostBalancedDebateThisWeek(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT d.debateId FROM Debate d")
+    List<Long> findAllDebateIds();
+
+    // 추천 대체 응답용 인기 토론 (자동완성과 같은 가중치)
+    @Query("SELECT d.debateId FROM Debate d WHERE d.createdAt >= :since ORDER BY (d.views + d.voteCnt * 5) DESC")
+    List<Long> findPopularIdsSince(@Param("since") LocalDateTime since, Pageable pageable);
+
+    // 검색 결과 id 를 카운터 컬럼 기준으로 정렬할 때 사용 (정렬은 pageable 로 전달). debateId, views, commentCnt, voteCnt
+    @Query("SELECT d.debateId, d.views, d.commentCnt, d.voteCnt FROM Debate d WHERE d.debateId IN :debateIds")
+    List<Object[]> findSortKeysByDebateIdIn(@Param("debateIds") Collection<Long> debateIds, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Debate d SET " +
+            "d.likeCnt = d.likeCnt + CASE WHEN :option = '좋아요' THEN :delta ELSE 0 END, " +
+            "d.dislikeCnt = d.dislikeCnt + CASE WHEN :option = '싫어요' THEN :delta ELSE 0 END, " +
+            "d.sadCnt = d.sadCnt + CASE WHEN :option = '슬퍼요' THEN :delta ELSE 0 END, " +
+            "d.angryCnt = d.angryCnt + CASE WHEN :option = '화나요' THEN :delta ELSE 0 END, " +
+            "d.hmCnt = d.hmCnt + CASE WHEN :option = '글쎄요' THEN :delta ELSE 0 END " +
+            "WHERE d.debateId = :debateId")
+    int addReaction(@Param("debateId") Long debateId, @Param("option") String option, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(MAX(d.debateId), 0) FROM Debate d")
+    long findMaxId();
+
+    // [fromId, toId) 구간만 다시 센다. 구간을 나눠 짧은 트랜잭션으로 돌리기 위함
+    @Modifying
+    @Query(value = """
+    UPDATE debate d SET
+    like_cnt = (SELECT COUNT(*) FROM debate_reaction r WHERE r.debate_id = d.debate_id AND r.`option` = '좋아요'),
+    dislike_cnt = (SELECT COUNT(*) FROM debate_reaction r WHERE r.debate_id = d.debate_id AND r.`option` = '싫어요'),
+    sad_cnt = (SELECT COUNT(*) FROM debate_reaction r WHERE r.debate_id = d.debate_id AND r.`option` = '슬퍼요'),
+    angry_cnt = (SELECT COUNT(*) FROM debate_reaction r WHERE r.debate_id = d.debate_id AND r.`option` = '화나요'),
+    hm_cnt = (SELECT COUNT(*) FROM debate_reaction r WHERE r.debate_id = d.debate_id AND r.`option` = '글쎄요')
+    WHERE d.debate_id >= :fromId AND d.debate_id < :toId
+    """, nativeQuery = true)
+    int recountReactions(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,10 @@
+package com.debate.repository;
+
+import com.debate.entity.Debate;
+
+import java.util.List;
+
+public interface DebateRepositoryCustom {
+    // lastValue 가 null 이면 첫 페이지
+    List<Debate> findKeysetPage(String category, KeysetSort sort, Object lastValue, Long lastId, int limit);
+}
@@ -0,0 +1,32 @@
+package com.debate.repository;
+
+import com.debate.entity.Debate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+
+public class DebateRepositoryCustomImpl implements DebateRepositoryCustom {
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Debate> findKeysetPage(String category, KeysetSort sort, Object lastValue, Long lastId, int limit) {
+        // '전체' 를 OR 로 넣으면 MySQL 이 (category, 정렬 컬럼) 인덱스를 못 쓰므로 조건 자체를 뺀다
+        boolean allCategories = "전체".equals(category);
+        String jpql = "SELECT d FROM Debate d WHERE " + (allCategories ? "1 = 1" : "d.category = :category")
+                + (lastValue == null ? "" : sort.after("d", "debateId"))
+                + sort.orderBy("d", "debateId");
+
+        TypedQuery<Debate> query = em.createQuery(jpql, Debate.class)
+                .setMaxResults(limit);
+        if (!allCategories) {
+            query.setParameter("category", category);
+        }
+        if (lastValue != null) {
+            query.setParameter("lastValue", lastValue).setParameter("lastId", lastId);
+        }
+        return query.getResultList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.debate.repository;
+
+import util.CursorCodec;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이지네이션에서 지원하는 정렬.
+ * (정렬 컬럼, id) 를 같은 방향으로 정렬하고, 다음 페이지는 마지막 행의 두 값보다 뒤에 있는 행만 읽는다.
+ * property 는 JPQL 에 그대로 들어가므로 이 enum 에 정의된 값만 쓴다.
+ */
+public enum KeysetSort {
+    DEBATE_LATEST("createdAt", false, LocalDateTime::parse),
+    DEBATE_VIEW("views", false, Long::valueOf),
+    DEBATE_COMMENT("commentCnt", false, Long::valueOf),
+    DEBATE_VOTE("voteCnt", false, Long::valueOf),
+    COMMENT_LATEST("createdAt", false, LocalDateTime::parse),
+    COMMENT_HEART("heart", false, Long::valueOf),
+    COMMENT_OLDEST("createdAt", true, LocalDateTime::parse);
+
+    private final String property;
+    private final boolean ascending;
+    private final Function<String, Object> valueParser;
+
+    KeysetSort(String property, boolean ascending, Function<String, Object> valueParser) {
+        this.property = property;
+        this.ascending = ascending;
+        this.valueParser = valueParser;
+    }
+
+    public static KeysetSort forDebate(String sort) {
+        if (sort == null) return DEBATE_LATEST;
+        return switch (sort) {
+            case "view" -> DEBATE_VIEW;
+            case "comment" -> DEBATE_COMMENT;
+            case "vote" -> DEBATE_VOTE;
+            default -> DEBATE_LATEST;
+        };
+    }
+
+    public static KeysetSort forComment(String sort) {
+        if (sort == null) return COMMENT_LATEST;
+        return switch (sort) {
+            case "heart" -> COMMENT_HEART;
+            case "oldest" -> COMMENT_OLDEST;
+            default -> COMMENT_LATEST;
+        };
+    }
+
+    // 커서 = (정렬 이름, 정렬 값, id). 다른 정렬에서 받은 커서는 거부한다
+    public String encodeCursor(Object value, Long id) {
+        return CursorCodec.encode(name(), value, id);
+    }
+
+    // { 정렬 값, id }. 형식이 맞지 않으면 IllegalArgumentException
+    public Object[] decodeCursor(String cursor) {
+        String[] parts = CursorCodec.decode(cursor, 3);
+        if (!parts[0].equals(name())) {
+            throw new IllegalArgumentException("cursor sort mismatch");
+        }
+        try {
+            return new Object[]{valueParser.apply(parts[1]), Long.valueOf(parts[2])};
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor", e);
+        }
+    }
+
+    // alias.property 기준 ORDER BY 와, :lastValue/:lastId 이후 행을 고르는 조건
+    String orderBy(String alias, String idProperty) {
+        String direction = ascending ? "ASC" : "DESC";
+        return " ORDER BY " + alias + "." + property + " " + direction + ", " + alias + "." + idProperty + " " + direction;
+    }
+
+    String after(String alias, String idProperty) {
+        String op = ascending ? ">" : "<";
+        String column = alias + "." + property;
+        return " AND (" + column + " " + op + " :lastValue OR (" + column + " = :lastValue AND "
+                + alias + "." + idProperty + " " + op + " :lastId))";
+    }
+}
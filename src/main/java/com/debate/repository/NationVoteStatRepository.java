@@ -0,0 +1,41 @@
+package com.debate.repository;
+
+import com.debate.entity.NationVoteStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NationVoteStatRepository extends JpaRepository<NationVoteStat, Long> {
+    // 0 아래로는 내려가지 않는다 (재집계 직후 취소 등)
+    @Modifying
+    @Query(value = "INSERT INTO nation_vote_stat (debate_id, nation, vote_option, cnt) " +
+            "VALUES (:debateId, :nation, :option, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE cnt = GREATEST(cnt + :delta, 0)", nativeQuery = true)
+    int addCount(@Param("debateId") Long debateId, @Param("nation") String nation,
+                 @Param("option") String option, @Param("delta") long delta);
+
+    @Query("SELECT s.nation, SUM(s.cnt) FROM NationVoteStat s " +
+            "WHERE s.debateId = :debateId GROUP BY s.nation")
+    List<Object[]> sumByNation(@Param("debateId") Long debateId);
+
+    @Query("SELECT s.debateId, s.nation, SUM(s.cnt) FROM NationVoteStat s " +
+            "WHERE s.debateId IN :debateIds GROUP BY s.debateId, s.nation")
+    List<Object[]> sumByNationIn(@Param("debateIds") Collection<Long> debateIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM nation_vote_stat WHERE debate_id = :debateId", nativeQuery = true)
+    int deleteByDebateId(@Param("debateId") Long debateId);
+
+    @Modifying
+    @Query(value = "INSERT INTO nation_vote_stat (debate_id, nation, vote_option, cnt) " +
+            "SELECT v.debate_id, v.nation, v.`option`, COUNT(*) FROM vote v " +
+            "WHERE v.debate_id = :debateId " +
+            "GROUP BY v.debate_id, v.nation, v.`option`", nativeQuery = true)
+    int recountFromVotes(@Param("debateId") Long debateId);
+}
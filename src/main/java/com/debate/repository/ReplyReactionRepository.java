@@ -2,11 +2,21 @@ package com.debate.repository;
 
 import com.debate.entity.ReplyReaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface ReplyReactionRepository extends JpaRepository<ReplyReaction, Long> {
     long countByReply_ReplyIdAndOption(Long replyId, String option);
 
     ReplyReaction findByReply_ReplyIdAndUser_UserId(long replyId, long userId);
+
+    @Query("SELECT r.reply.replyId, r.option FROM ReplyReaction r " +
+            "WHERE r.reply.replyId IN :replyIds AND r.user.userId = :userId")
+    List<Object[]> findOptionsByReplyIdsAndUserId(@Param("replyIds") Collection<Long> replyIds,
+                                                  @Param("userId") Long userId);
 }
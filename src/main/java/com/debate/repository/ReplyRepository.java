@@ -1,9 +1,15 @@
 package com.debate.repository;
 
 import com.debate.entity.Reply;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -11,5 +17,39 @@ import java.util.List;
 public interface ReplyRepository extends JpaRepository<Reply, Long> {
     List<Reply> findByComment_CommentId(long commentId);
 
+    // (createdAt, replyId) 기준 커서 페이지. size + 1 개를 요청해서 다음 페이지 유무를 판단
+    @EntityGraph(attributePaths = {"comment", "user"})
+    @Query("SELECT r FROM Reply r WHERE r.comment.commentId = :commentId " +
+            "ORDER BY r.createdAt ASC, r.replyId ASC")
+    List<Reply> findFirstPage(@Param("commentId") long commentId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"comment", "user"})
+    @Query("SELECT r FROM Reply r WHERE r.comment.commentId = :commentId " +
+            "AND (r.createdAt > :createdAt OR (r.createdAt = :createdAt AND r.replyId > :replyId)) " +
+            "ORDER BY r.createdAt ASC, r.replyId ASC")
+    List<Reply> findPageAfter(@Param("commentId") long commentId,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("replyId") long replyId,
+                              Pageable pageable);
+
     Reply findByReplyId(long replyId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Reply r SET " +
+            "r.heart = r.heart + CASE WHEN :option = '좋아요' THEN :delta ELSE 0 END, " +
+            "r.dislikeCnt = r.dislikeCnt + CASE WHEN :option = '싫어요' THEN :delta ELSE 0 END " +
+            "WHERE r.replyId = :replyId")
+    int addReaction(@Param("replyId") Long replyId, @Param("option") String option, @Param("delta") long delta);
+
+    @Query("SELECT COALESCE(MAX(r.replyId), 0) FROM Reply r")
+    long findMaxId();
+
+    @Modifying
+    @Query(value = """
+    UPDATE reply p SET
+    heart = (SELECT COUNT(*) FROM reply_reaction r WHERE r.reply_id = p.reply_id AND r.`option` = '좋아요'),
+    dislike_cnt = (SELECT COUNT(*) FROM reply_reaction r WHERE r.reply_id = p.reply_id AND r.`option` = '싫어요')
+    WHERE p.reply_id >= :fromId AND p.reply_id < :toId
+    """, nativeQuery = true)
+    int recountReactions(@Param("fromId") long fromId, @Param("toId") long toId);
 }
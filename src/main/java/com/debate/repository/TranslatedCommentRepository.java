@@ -2,9 +2,29 @@ package com.debate.repository;
 
 import com.debate.entity.TranslatedComment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TranslatedCommentRepository extends JpaRepository<TranslatedComment, Long> {
     TranslatedComment findByComment_CommentIdAndLanguage(Long commentId, String language);
+
+    @Query("SELECT tc.comment.commentId, tc.content FROM TranslatedComment tc " +
+            "WHERE tc.comment.commentId IN :commentIds AND tc.language = :language")
+    List<Object[]> findContentsByCommentIdsAndLanguage(@Param("commentIds") Collection<Long> commentIds,
+                                                       @Param("language") String language);
+
+    // 작성 언어로 저장된 원문 (id, 원문 언어, 내용)
+    @Query("SELECT tc.comment.commentId, tc.language, tc.content FROM TranslatedComment tc " +
+            "WHERE tc.comment.commentId IN :commentIds AND tc.language = tc.comment.sourceLanguage")
+    List<Object[]> findSourceContents(@Param("commentIds") Collection<Long> commentIds);
+
+    @Modifying
+    @Query("DELETE FROM TranslatedComment tc WHERE tc.comment.commentId = :commentId AND tc.language <> :language")
+    int deleteOtherLanguages(@Param("commentId") Long commentId, @Param("language") String language);
 }
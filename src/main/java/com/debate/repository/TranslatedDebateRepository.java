@@ -3,11 +3,14 @@ package com.debate.repository;
 import com.debate.entity.TranslatedDebate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -15,6 +18,25 @@ import java.util.Map;
 public interface TranslatedDebateRepository extends JpaRepository<TranslatedDebate, Long> {
     TranslatedDebate findByDebate_DebateIdAndLanguage(Long debateId, String language);
 
+    @Query("SELECT td.debate.debateId, td.title FROM TranslatedDebate td " +
+            "WHERE td.debate.debateId IN :debateIds AND td.language = :language")
+    List<Object[]> findTitlesByDebateIdsAndLanguage(@Param("debateIds") Collection<Long> debateIds,
+                                                    @Param("language") String language);
+
+    @EntityGraph(attributePaths = "debate")
+    List<TranslatedDebate> findByDebate_DebateIdInAndLanguage(Collection<Long> debateIds, String language);
+
+    // 검색 색인 재구성용. translationDebateId 기준으로 끊어 읽는다
+    @Query("SELECT td.translationDebateId, td.debate.debateId, td.debate.category, td.language, td.title, td.content " +
+            "FROM TranslatedDebate td WHERE td.translationDebateId > :after ORDER BY td.translationDebateId")
+    List<Object[]> findIndexRowsAfter(@Param("after") long after, Pageable pageable);
+
+    // 자동완성 재구성용 (제목 + 인기 가중치)
+    @Query("SELECT td.translationDebateId, td.debate.debateId, td.language, td.title, td.debate.views, td.debate.voteCnt " +
+            "FROM TranslatedDebate td WHERE td.translationDebateId > :after ORDER BY td.translationDebateId")
+    List<Object[]> findTitleRowsAfter(@Param("after") long after, Pageable pageable);
+
+    @EntityGraph(attributePaths = "debate")
     @Query("SELECT td FROM TranslatedDebate td " +
             "WHERE (:category = '전체' OR td.debate.category = :category) " +
             "AND td.language = :language " +
@@ -24,6 +46,7 @@ public interface TranslatedDebateRepository extends JpaRepository<TranslatedDeba
                                                   @Param("language") String language,
                                                   Pageable pageable);
 
+    @EntityGraph(attributePaths = "debate")
     @Query("SELECT td FROM TranslatedDebate td " +
             "WHERE (:category = '전체' OR td.debate.category = :category) " +
             "AND td.language = :language " +
@@ -33,6 +56,7 @@ public interface TranslatedDebateRepository extends JpaRepository<TranslatedDeba
                                                     @Param("language") String language,
                                                     Pageable pageable);
 
+    @EntityGraph(attributePaths = "debate")
     @Query("SELECT td FROM TranslatedDebate td " +
             "WHERE (:category = '전체' OR td.debate.category = :category) " +
             "AND td.language = :language " +
@@ -43,18 +67,8 @@ public interface TranslatedDebateRepository extends JpaRepository<TranslatedDeba
                                                            Pageable pageable);
 
 
-    @Query(value =
-            "select td.* from translated_debate td " +
-            "join debate d on td.debate_id = d.debate_id " +
-            "where d.category = :tag " +
-            "and td.language = :language " +
-            "and d.created_at >= :sevenDaysAgo " +
-            "order by rand()" +
-            "limit :i "
-        ,nativeQuery = true)
-    List<TranslatedDebate> findRandomByTagAndLanguageAndRecentDayAndCount(
-            @Param("tag") String tag,
-            @Param("language") String language,
-            @Param("sevenDaysAgo") String sevenDaysAgo,
-            @Param("i") int i);
+    // 추천 풀 재구성용 (DebateRecommendationPool)
+    @Query("SELECT td.debate.category, td.language, td.debate.debateId FROM TranslatedDebate td " +
+            "WHERE td.debate.createdAt >= :since")
+    List<Object[]> findRecommendationRowsSince(@Param("since") LocalDateTime since);
 }
@@ -3,9 +3,29 @@ package com.debate.repository;
 
 import com.debate.entity.TranslatedReply;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface TranslatedReplyRepository extends JpaRepository<TranslatedReply, Long> {
     TranslatedReply findByReply_ReplyIdAndLanguage(Long replyId, String language);
+
+    @Query("SELECT tr.reply.replyId, tr.content FROM TranslatedReply tr " +
+            "WHERE tr.reply.replyId IN :replyIds AND tr.language = :language")
+    List<Object[]> findContentsByReplyIdsAndLanguage(@Param("replyIds") Collection<Long> replyIds,
+                                                     @Param("language") String language);
+
+    // 작성 언어로 저장된 원문 (id, 원문 언어, 내용)
+    @Query("SELECT tr.reply.replyId, tr.language, tr.content FROM TranslatedReply tr " +
+            "WHERE tr.reply.replyId IN :replyIds AND tr.language = tr.reply.sourceLanguage")
+    List<Object[]> findSourceContents(@Param("replyIds") Collection<Long> replyIds);
+
+    @Modifying
+    @Query("DELETE FROM TranslatedReply tr WHERE tr.reply.replyId = :replyId AND tr.language <> :language")
+    int deleteOtherLanguages(@Param("replyId") Long replyId, @Param("language") String language);
 }
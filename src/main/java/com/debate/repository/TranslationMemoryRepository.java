@@ -0,0 +1,25 @@
+package com.debate.repository;
+
+import com.debate.entity.TranslationMemory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemory, Long> {
+    @Query("SELECT m.textHash, m.targetLang, m.translatedText FROM TranslationMemory m " +
+            "WHERE m.sourceLang = :sourceLang AND m.textHash IN :textHashes AND m.targetLang IN :targetLangs")
+    List<Object[]> findTranslationsByHashes(@Param("sourceLang") String sourceLang,
+                                            @Param("textHashes") Collection<String> textHashes,
+                                            @Param("targetLangs") Collection<String> targetLangs);
+
+    @Modifying
+    @Query("DELETE FROM TranslationMemory m WHERE m.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
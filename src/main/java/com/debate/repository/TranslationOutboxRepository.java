@@ -0,0 +1,82 @@
+package com.debate.repository;
+
+import com.debate.entity.TranslationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranslationOutboxRepository extends JpaRepository<TranslationOutbox, Long> {
+    // 처리할 차례인 작업을 잠근다. 다른 노드가 잡고 있는 행은 건너뛰고,
+    // 같은 글의 앞선 작업이 아직 남아 있으면 (작성 -> 수정 순서) 뒤 작업은 가져가지 않는다
+    @Query(value = "SELECT o.id FROM translation_outbox o " +
+            "WHERE o.status = 'PENDING' AND o.next_attempt_at <= :now " +
+            "AND NOT EXISTS (SELECT 1 FROM translation_outbox p " +
+            "WHERE p.aggregate_type = o.aggregate_type AND p.aggregate_id = o.aggregate_id " +
+            "AND p.id < o.id AND p.status IN ('PENDING', 'PROCESSING', 'RUNNING')) " +
+            "ORDER BY o.priority, o.id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'PROCESSING', o.lockedAt = :now, o.attempts = o.attempts + 1 " +
+            "WHERE o.id IN :ids")
+    int markProcessing(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 컨슈머가 실행 직전에 호출해서 PROCESSING -> RUNNING 으로 가져간다. 한 행은 한 컨슈머만 가져갈 수 있으므로
+    // 0 이면 다른 컨슈머가 이미 실행 중이거나(카프카 재전달) 실패 후 다시 발행된(시도 횟수가 바뀐) 작업의 이전 메시지
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'RUNNING', o.lockedAt = :now " +
+            "WHERE o.id = :id AND o.status = 'PROCESSING' AND o.attempts = :attempts")
+    int startRun(@Param("id") Long id, @Param("attempts") int attempts, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'PENDING', o.lockedAt = null, " +
+            "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error WHERE o.id = :id")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                  @Param("error") String error);
+
+    // 번역 API 한도 초과, 카프카 발행 실패. 작업 잘못이 아니므로 시도 횟수에 넣지 않는다
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'PENDING', o.lockedAt = null, o.attempts = o.attempts - 1, " +
+            "o.nextAttemptAt = :nextAttemptAt, o.lastError = :error WHERE o.id = :id")
+    int markDeferred(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                     @Param("error") String error);
+
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'FAILED', o.lockedAt = null, o.lastError = :error " +
+            "WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    // 발행/실행 중에 노드가 죽어서 lease 가 지난 작업을 다시 대기 상태로.
+    // 실행이 시작되지 않은(PROCESSING) 작업은 markProcessing 에서 올린 시도 횟수를 되돌린다
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'PENDING', o.lockedAt = null, " +
+            "o.attempts = CASE WHEN o.status = 'PROCESSING' THEN o.attempts - 1 ELSE o.attempts END " +
+            "WHERE o.status IN ('PROCESSING', 'RUNNING') AND o.lockedAt < :cutoff")
+    int releaseExpired(@Param("cutoff") LocalDateTime cutoff);
+
+    // FAILED 작업을 처음부터 다시 시도 (원인을 고친 뒤 /actuator/translation 에서)
+    @Modifying
+    @Query("UPDATE TranslationOutbox o SET o.status = 'PENDING', o.attempts = 0, o.nextAttemptAt = :now " +
+            "WHERE o.status = 'FAILED' AND (:id IS NULL OR o.id = :id)")
+    int requeueFailed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    long countByStatus(String status);
+
+    long countByStatusIn(Collection<String> statuses);
+
+    @Modifying
+    @Query("DELETE FROM TranslationOutbox o WHERE o.status = 'FAILED' AND o.createdAt < :cutoff")
+    int deleteFailedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 글 종류, 상태별 작업 수와 가장 오래된 작업의 생성 시각 (지표용)
+    @Query("SELECT o.aggregateType, o.status, COUNT(o), MIN(o.createdAt) FROM TranslationOutbox o " +
+            "GROUP BY o.aggregateType, o.status")
+    List<Object[]> summarize();
+}
@@ -3,9 +3,13 @@ package com.debate.repository;
 import com.debate.entity.Vote;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,5 +18,11 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
 
     List<Vote> findByDebate_DebateId(Long debateId);
 
+    @EntityGraph(attributePaths = {"debate", "user"})
     Page<Vote> findByUser_UserId(long userId, Pageable pageable);
+
+    @Query("SELECT v.user.userId, v.option FROM Vote v " +
+            "WHERE v.debate.debateId = :debateId AND v.user.userId IN :userIds")
+    List<Object[]> findOptionsByDebateIdAndUserIds(@Param("debateId") Long debateId,
+                                                   @Param("userIds") Collection<Long> userIds);
 }
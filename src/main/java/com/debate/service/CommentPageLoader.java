@@ -0,0 +1,76 @@
+package com.debate.service;
+
+import com.debate.dto.CommentResDto;
+import com.debate.entity.Comment;
+import com.debate.repository.CommentReactionRepository;
+import com.debate.repository.TranslatedCommentRepository;
+import com.debate.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import util.CounterBuffer;
+import util.CounterBuffer.Counter;
+
+import java.util.*;
+
+/**
+ * 댓글 페이지 DTO 일괄 조립.
+ * 번역 내용, 조회자의 감정표현, 작성자의 투표 상태를 페이지 전체에 대해 IN (...) 쿼리 한 번씩으로 가져온다.
+ * 싫어요 수는 comment.dislike_cnt 컬럼을 그대로 쓴다. 조회 언어의 번역이 없으면 LazyTranslator 로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentPageLoader {
+    private final TranslatedCommentRepository translatedCommentRepository;
+    private final CommentReactionRepository commentReactionRepository;
+    private final VoteRepository voteRepository;
+    private final CounterBuffer counterBuffer;
+    private final LazyTranslator lazyTranslator;
+
+    public List<CommentResDto> load(List<Comment> commentList, long debateId, long viewerId, String language) {
+        if (commentList.isEmpty()) return new ArrayList<>();
+
+        List<Long> commentIds = commentList.stream().map(Comment::getCommentId).toList();
+        Set<Long> authorIds = new HashSet<>();
+        for (Comment comment : commentList) {
+            authorIds.add(comment.getUser().getUserId());
+        }
+
+        Map<Long, String> contents = toMap(
+                translatedCommentRepository.findContentsByCommentIdsAndLanguage(commentIds, language));
+        List<Long> untranslated = commentIds.stream().filter(id -> !contents.containsKey(id)).toList();
+        contents.putAll(lazyTranslator.commentContents(untranslated, language)); // 지연 번역 모드
+        Map<Long, String> reactions = toMap(
+                commentReactionRepository.findOptionsByCommentIdsAndUserId(commentIds, viewerId));
+        Map<Long, String> voteStates = toMap(
+                voteRepository.findOptionsByDebateIdAndUserIds(debateId, authorIds));
+
+        List<CommentResDto> commentResDtoList = new ArrayList<>();
+        for (Comment comment : commentList) {
+            Long commentId = comment.getCommentId();
+            CommentResDto commentResDto = CommentResDto.builder()
+                    .commentId(commentId)
+                    .content(contents.get(commentId))
+                    .like(counterBuffer.get(Counter.COMMENT_HEART, commentId, comment.getHeart()))
+                    .dislike(comment.getDislikeCnt())
+                    .reply(counterBuffer.get(Counter.COMMENT_REPLY_CNT, commentId, comment.getReplyCnt()))
+                    .createdAt(comment.getCreatedAt())
+                    .userName(comment.getUser().getName())
+                    .nation(comment.getUser().getNation())
+                    .userId(comment.getUser().getUserId())
+                    .isState(reactions.get(commentId))
+                    .voteState(voteStates.get(comment.getUser().getUserId()))
+                    .build();
+
+            commentResDtoList.add(commentResDto);
+        }
+        return commentResDtoList;
+    }
+
+    private static Map<Long, String> toMap(List<Object[]> rows) {
+        Map<Long, String> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], (String) row[1]);
+        }
+        return result;
+    }
+}
@@ -4,19 +4,22 @@ import com.debate.dto.CommentReqDto;
 import com.debate.dto.CommentResDto;
 import com.debate.entity.*;
 import com.debate.repository.*;
-import util.JwtUtil;
+import util.CounterBuffer;
+import util.CounterBuffer.Counter;
+import util.PrincipalResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import util.TranslationJob;
 import util.TranslationQueue;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,28 +28,25 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
-    private final UserRepository userRepository;
     private final DebateRepository debateRepository;
     private final TranslatedCommentRepository translatedCommentRepository;
     private final CommentReactionRepository commentReactionRepository;
     private final VoteRepository voteRepository;
 
-    private final JwtUtil jwtUtil;
+    private final PrincipalResolver principalResolver;
     private final TranslationQueue translationQueue;
+    private final CounterBuffer counterBuffer;
+    private final CommentPageLoader commentPageLoader;
+    private final LazyTranslator lazyTranslator;
+    private final ListTotalCache listTotalCache;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     private Optional<User> verifyToken(String token) {    // 토큰 검증 함수
-        try {
-            long userId = jwtUtil.getUserId(token);
-            User user = userRepository.findById(userId).orElse(null);
-            if(user == null) {
-                return Optional.empty();
-            }
-            return Optional.of(user);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return principalResolver.resolve(token);
     }
 
+    @Transactional
     public ResponseEntity<?> addComment(String token, CommentReqDto commentReqDto) {
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
@@ -57,9 +57,14 @@ public class CommentService {
             return ResponseEntity.badRequest().body("차단된 유저");
         }
 
+        if(!translationQueue.admits("comment", false)){ // 번역 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("번역 대기 중인 글이 많음. 잠시 후 다시 시도");
+        }
+
         Debate debate = debateRepository.findById(commentReqDto.getDebateId()).get();
         Comment comment = Comment.builder()
                 .debate(debate)
+                .sourceLanguage(commentReqDto.getLanguage())
                 .user(user.get())
                 .replyCnt(0L)
                 .heart(0L)
@@ -84,8 +89,7 @@ public class CommentService {
                 .voteState(voteState)
                 .build();
 
-        debate.setCommentCnt(debate.getCommentCnt() + 1);
-        debateRepository.save(debate);
+        counterBuffer.add(Counter.DEBATE_COMMENT_CNT, debate.getDebateId(), 1);
 
         translationQueue.enqueue(new TranslationJob(comment, commentReqDto, null));
 
@@ -116,49 +120,55 @@ public class CommentService {
 
         long total = commentList.getTotalElements();
 
-        List<CommentResDto> commentResDtoList = new ArrayList<>();
-        for(Comment comment : commentList){
-            TranslatedComment translatedComment = translatedCommentRepository
-                    .findByComment_CommentIdAndLanguage(comment.getCommentId(), language);
+        List<CommentResDto> commentResDtoList = commentPageLoader.load(
+                commentList.getContent(), debateId, user.get().getUserId(), language);
+
+        return ResponseEntity.ok(Map.of(
+                "commentList", commentResDtoList,
+                "total", total
+        ));
+    }
 
-            long dislike = commentReactionRepository
-                    .countByComment_CommentIdAndOption(comment.getCommentId(), "싫어요");
+    public ResponseEntity<?> getCommentsByCursor(String token, long debateId, String sort, String cursor, int size) {
+        Optional<User> user = verifyToken(token);
+        if(user.isEmpty()) {
+            return ResponseEntity.badRequest().body("유효하지 않은 토큰");
+        }
+        String language = user.get().getLanguage();
 
-            CommentReaction commentReaction = commentReactionRepository
-                    .findByComment_CommentIdAndUser_UserId(comment.getCommentId(), user.get().getUserId());
-            String option = null;
-            if(commentReaction != null) {
-                option = commentReaction.getOption();
+        KeysetSort keysetSort = KeysetSort.forComment(sort);
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Object lastValue = null;
+        Long lastId = null;
+        if(cursor != null && !cursor.isEmpty()) {
+            try {
+                Object[] position = keysetSort.decodeCursor(cursor);
+                lastValue = position[0];
+                lastId = (Long) position[1];
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("유효하지 않은 커서");
             }
+        }
 
-            Vote vote = voteRepository
-                    .findByDebate_DebateIdAndUser_UserId(
-                            comment.getDebate().getDebateId(), comment.getUser().getUserId());
-
-            String voteState = (vote != null) ? vote.getOption() : null;
-
-            CommentResDto commentResDto = CommentResDto.builder()
-                    .commentId(comment.getCommentId())
-                    .content(translatedComment.getContent())
-                    .like(comment.getHeart())
-                    .dislike(dislike)
-                    .reply(comment.getReplyCnt())
-                    .createdAt(comment.getCreatedAt())
-                    .userName(comment.getUser().getName())
-                    .nation(comment.getUser().getNation())
-                    .userId(comment.getUser().getUserId())
-                    .isState(option)
-                    .voteState(voteState)
-                    .build();
+        List<Comment> commentList = commentRepository.findKeysetPage(debateId, keysetSort, lastValue, lastId, size + 1);
 
-            commentResDtoList.add(commentResDto);
+        String nextCursor = null;
+        if(commentList.size() > size) {
+            commentList = commentList.subList(0, size);
+            Comment last = commentList.get(size - 1);
+            Object lastKey = keysetSort == KeysetSort.COMMENT_HEART ? last.getHeart() : last.getCreatedAt();
+            nextCursor = keysetSort.encodeCursor(lastKey, last.getCommentId());
         }
-        return ResponseEntity.ok(Map.of(
-                "commentList", commentResDtoList,
-                "total", total
-        ));
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("commentList", commentPageLoader.load(commentList, debateId, user.get().getUserId(), language));
+        result.put("total", listTotalCache.commentTotal(debateId)); // 근사값
+        result.put("nextCursor", nextCursor);
+        return ResponseEntity.ok(result);
     }
 
+    @Transactional
     public ResponseEntity<?> updateComment(String token, long commentId, CommentReqDto commentReqDto) {
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
@@ -171,10 +181,16 @@ public class CommentService {
 
         Comment comment = commentRepository.findById(commentId).get();
 
-        if(user.get() != comment.getUser()) {
+        if(!user.get().getUserId().equals(comment.getUser().getUserId())) {
             return ResponseEntity.badRequest().body("작성자만 수정 가능");
         }
 
+        if(!translationQueue.admits("comment", true)){ // 번역 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("번역 대기 중인 글이 많음. 잠시 후 다시 시도");
+        }
+
+        comment.setSourceLanguage(commentReqDto.getLanguage());
+
         translationQueue.enqueue(new TranslationJob(comment, commentReqDto, commentId));
 
         return ResponseEntity.ok(commentReqDto.getContent());
@@ -193,12 +209,12 @@ public class CommentService {
 
         Comment comment = commentRepository.findById(commentId).get();
 
-        if(user.get() != comment.getUser() && !user.get().getRole().equals("ROLE_ADMIN")) {
+        if(!user.get().getUserId().equals(comment.getUser().getUserId()) && !user.get().getRole().equals("ROLE_ADMIN")) {
             return ResponseEntity.badRequest().body("작성자/관리자만 수정 가능");
         }
 
-        comment.getDebate().setCommentCnt(comment.getDebate().getCommentCnt() - comment.getReplyCnt() - 1);
-        debateRepository.save(comment.getDebate());
+        long replyCnt = counterBuffer.get(Counter.COMMENT_REPLY_CNT, commentId, comment.getReplyCnt());
+        counterBuffer.add(Counter.DEBATE_COMMENT_CNT, comment.getDebate().getDebateId(), -(replyCnt + 1));
         commentRepository.delete(comment);
         return ResponseEntity.ok("삭제 완료");
     }
@@ -227,14 +243,12 @@ public class CommentService {
                     .option(commentReqDto.getEmotion())
                     .build();
 
-            if(commentReqDto.getEmotion().equals("좋아요")){
-                comment.setHeart(comment.getHeart() + 1);
-                commentRepository.save(comment);
-            }
             commentReactionRepository.save(commentReaction);
+            addReactionCount(commentId, commentReqDto.getEmotion(), 1);
 
-            long like = comment.getHeart();
-            long dislike = commentReactionRepository.countByComment_CommentIdAndOption(commentId, "싫어요");
+            comment = commentRepository.findById(commentId).get(); // 증감 반영된 집계
+            long like = counterBuffer.get(Counter.COMMENT_HEART, commentId, comment.getHeart());
+            long dislike = comment.getDislikeCnt();
 
             return ResponseEntity.ok(Map.of(
                     "like", like,
@@ -243,15 +257,12 @@ public class CommentService {
         }
         else {
             if (commentReaction.getOption().equals(commentReqDto.getEmotion())) {
-                if (commentReqDto.getEmotion().equals("좋아요")) {
-                    comment.setHeart(comment.getHeart() - 1);
-                    commentRepository.save(comment);
-                }
-
                 commentReactionRepository.delete(commentReaction);
+                addReactionCount(commentId, commentReqDto.getEmotion(), -1);
 
-                long like = comment.getHeart();
-                long dislike = commentReactionRepository.countByComment_CommentIdAndOption(commentId, "싫어요");
+                comment = commentRepository.findById(commentId).get();
+                long like = counterBuffer.get(Counter.COMMENT_HEART, commentId, comment.getHeart());
+                long dislike = comment.getDislikeCnt();
                 return ResponseEntity.ok(Map.of(
                         "like", like,
                         "dislike", dislike
@@ -261,6 +272,15 @@ public class CommentService {
         }
     }
 
+    private void addReactionCount(long commentId, String emotion, long delta) {
+        if(emotion.equals("좋아요")) {
+            counterBuffer.add(Counter.COMMENT_HEART, commentId, delta);
+        }
+        else {
+            commentRepository.addDislike(commentId, delta);
+        }
+    }
+
     public ResponseEntity<?> getComment(String token, long commentId) {
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
@@ -271,12 +291,22 @@ public class CommentService {
         TranslatedComment translatedComment = translatedCommentRepository
                 .findByComment_CommentIdAndLanguage(commentId, language);
 
+        Comment comment;
+        String content;
+        if (translatedComment != null) {
+            comment = translatedComment.getComment();
+            content = translatedComment.getContent();
+        } else { // 지연 번역 모드에서 아직 이 언어로 번역되지 않음
+            comment = commentRepository.findById(commentId).get();
+            content = lazyTranslator.commentContents(List.of(commentId), language).get(commentId);
+        }
+
         CommentResDto commentResDto = CommentResDto.builder()
-                .content(translatedComment.getContent())
-                .userName(translatedComment.getComment().getUser().getName())
-                .nation(translatedComment.getComment().getUser().getNation())
-                .userId(translatedComment.getComment().getUser().getUserId())
-                .createdAt(translatedComment.getComment().getCreatedAt())
+                .content(content)
+                .userName(comment.getUser().getName())
+                .nation(comment.getUser().getNation())
+                .userId(comment.getUser().getUserId())
+                .createdAt(comment.getCreatedAt())
                 .build();
         return ResponseEntity.ok(commentResDto);
     }
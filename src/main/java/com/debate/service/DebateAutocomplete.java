@@ -0,0 +1,84 @@
+package com.debate.service;
+
+import com.debate.entity.TranslatedDebate;
+import com.debate.repository.TranslatedDebateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import util.PrefixIndex;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 언어별 토론 제목 자동완성. 조회는 메모리 트라이만 읽고 DB 에 가지 않는다.
+ * 인기 가중치(views + voteCnt * VOTE_WEIGHT)는 재구성 시점 값이라 주기적으로 전체를 다시 만들어 교체하고,
+ * 그 사이 새로 번역된 토론은 TranslationService 가 가중치 0 으로 바로 넣는다.
+ */
+@Slf4j
+@Component
+public class DebateAutocomplete {
+    private static final int REBUILD_BATCH = 1000;
+    private static final long VOTE_WEIGHT = 5; // 투표는 조회보다 드문 만큼 더 강한 신호
+
+    private final TranslatedDebateRepository translatedDebateRepository;
+    private volatile Map<String, PrefixIndex> indexes = new ConcurrentHashMap<>();
+
+    public DebateAutocomplete(TranslatedDebateRepository translatedDebateRepository) {
+        this.translatedDebateRepository = translatedDebateRepository;
+    }
+
+    public List<Map.Entry<Long, String>> complete(String language, String prefix, int limit) {
+        PrefixIndex index = indexes.get(language);
+        if (index == null) return List.of();
+        return index.complete(prefix, limit);
+    }
+
+    // 새 토론은 가중치 0 으로 들어가고, 이미 있는 토론(수정/재시도)은 재구성 때 정한 가중치를 유지한다
+    public void add(TranslatedDebate translatedDebate) {
+        PrefixIndex index = indexes.computeIfAbsent(translatedDebate.getLanguage(), l -> new PrefixIndex());
+        index.put(translatedDebate.getDebate().getDebateId(), translatedDebate.getTitle(), 0L);
+    }
+
+    public void remove(Long debateId) {
+        for (PrefixIndex index : indexes.values()) {
+            index.remove(debateId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms}", initialDelayString = "${autocomplete.rebuild-interval-ms}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<String, PrefixIndex> rebuilt = new ConcurrentHashMap<>();
+
+        long after = 0;
+        int rows = 0;
+        try {
+            while (true) {
+                List<Object[]> batch = translatedDebateRepository.findTitleRowsAfter(
+                        after, PageRequest.of(0, REBUILD_BATCH));
+                if (batch.isEmpty()) break;
+                for (Object[] row : batch) { // translationDebateId, debateId, language, title, views, voteCnt
+                    after = (Long) row[0];
+                    PrefixIndex index = rebuilt.computeIfAbsent((String) row[2], l -> new PrefixIndex());
+                    long weight = nullToZero((Long) row[4]) + nullToZero((Long) row[5]) * VOTE_WEIGHT;
+                    index.put((Long) row[1], (String) row[3], weight);
+                }
+                rows += batch.size();
+            }
+            indexes = rebuilt;
+            log.info("autocomplete index rebuilt. rows={}, {}ms", rows, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("autocomplete index rebuild failed, keeping previous index", e);
+        }
+    }
+
+    private static long nullToZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,108 @@
+package com.debate.service;
+
+import com.debate.dto.DebateResDto;
+import com.debate.entity.Debate;
+import com.debate.entity.TranslatedDebate;
+import com.debate.repository.TranslatedDebateRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import util.CounterBuffer;
+import util.CounterBuffer.Counter;
+
+import java.util.*;
+
+/**
+ * 토론 목록 DTO 일괄 조립.
+ * 페이지 크기와 상관없이 제목 1회, 국가별 투표 히스토그램 1회의 쿼리로 끝난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DebateDtoAssembler {
+    private final TranslatedDebateRepository translatedDebateRepository;
+    private final VoteStatService voteStatService;
+    private final CounterBuffer counterBuffer;
+
+    static Map<String, Double> calculateVotePercent(Long agreeCnt, Long disagreeCnt) {
+        Long voteCnt = agreeCnt + disagreeCnt;
+        double agreePercent = 0;
+        double disagreePercent = 0;
+
+        if (voteCnt > 0) {
+            agreePercent = (double) agreeCnt * 100 / voteCnt;
+            disagreePercent = (double) disagreeCnt * 100 / voteCnt;
+        }
+
+        Map<String, Double> result = new HashMap<>();
+        result.put("agreePercent", agreePercent);
+        result.put("disagreePercent", disagreePercent);
+        return result;
+    }
+
+    public List<DebateResDto> toDtoList(List<Debate> debateList, String language) {
+        if (debateList.isEmpty()) return new ArrayList<>();
+
+        List<Long> debateIds = debateList.stream().map(Debate::getDebateId).toList();
+
+        Map<Long, String> titles = new HashMap<>();
+        for (Object[] row : translatedDebateRepository.findTitlesByDebateIdsAndLanguage(debateIds, language)) {
+            titles.put((Long) row[0], (String) row[1]);
+        }
+        Map<Long, String> nations = getTopNations(debateIds);
+
+        List<DebateResDto> dtoList = new ArrayList<>();
+        for (Debate debate : debateList) {
+            dtoList.add(toDto(debate, titles.get(debate.getDebateId()), nations.get(debate.getDebateId())));
+        }
+        return dtoList;
+    }
+
+    public List<DebateResDto> fromTranslated(List<TranslatedDebate> translatedDebateList) {
+        if (translatedDebateList.isEmpty()) return new ArrayList<>();
+
+        List<Long> debateIds = translatedDebateList.stream().map(td -> td.getDebate().getDebateId()).toList();
+        Map<Long, String> nations = getTopNations(debateIds);
+
+        List<DebateResDto> dtoList = new ArrayList<>();
+        for (TranslatedDebate translatedDebate : translatedDebateList) {
+            Debate debate = translatedDebate.getDebate();
+            dtoList.add(toDto(debate, translatedDebate.getTitle(), nations.get(debate.getDebateId())));
+        }
+        return dtoList;
+    }
+
+    public DebateResDto toDto(Debate debate, String language) {
+        return toDtoList(List.of(debate), language).get(0);
+    }
+
+    public String getTopNation(Long debateId) {
+        return getTopNations(List.of(debateId)).get(debateId);
+    }
+
+    public Map<Long, String> getTopNations(Collection<Long> debateIds) {
+        return voteStatService.getTopNations(debateIds);
+    }
+
+    public Map<String, Double> getVotePercent(Debate debate) { // 미반영 카운터 포함
+        return calculateVotePercent(
+                counterBuffer.get(Counter.DEBATE_AGREE_CNT, debate.getDebateId(), debate.getAgreeCnt()),
+                counterBuffer.get(Counter.DEBATE_DISAGREE_CNT, debate.getDebateId(), debate.getDisagreeCnt()));
+    }
+
+    private DebateResDto toDto(Debate debate, String title, String nation) {
+        Long debateId = debate.getDebateId();
+        Map<String, Double> percentMap = getVotePercent(debate);
+
+        return DebateResDto.builder()
+                .title(title)
+                .debateId(debateId)
+                .views(counterBuffer.get(Counter.DEBATE_VIEWS, debateId, debate.getViews()))
+                .createdAt(debate.getCreatedAt())
+                .voteCnt(counterBuffer.get(Counter.DEBATE_VOTE_CNT, debateId, debate.getVoteCnt()))
+                .agreePercent(percentMap.get("agreePercent"))
+                .disagreePercent(percentMap.get("disagreePercent"))
+                .commentCnt(counterBuffer.get(Counter.DEBATE_COMMENT_CNT, debateId, debate.getCommentCnt()))
+                .category(debate.getCategory())
+                .nation(nation)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.debate.service;
+
+import com.debate.entity.TranslatedDebate;
+import com.debate.repository.DebateRepository;
+import com.debate.repository.TranslatedDebateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import util.RecentIdPool;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 추천용 최근 토론 풀. (카테고리, 언어)별로 최근 days 일 안에 작성된 토론 id 를 메모리에 들고 있다가
+ * 추천 요청마다 ORDER BY RAND() 대신 RecentIdPool.sample 로 O(k) 추출한다.
+ * 주기적으로 전체를 다시 만들어 교체하고(기간이 지난 토론이 빠진다), 그 사이 번역이 끝난 토론은 TranslationService 가 바로 넣는다.
+ * 같은 기간의 인기 토론 popular-size 개도 따로 들고 있다가 선호도를 모를 때(AI 서버 장애 등) 대신 추천한다.
+ */
+@Slf4j
+@Component
+public class DebateRecommendationPool {
+    private final TranslatedDebateRepository translatedDebateRepository;
+    private final DebateRepository debateRepository;
+    private final int days;
+    private final int popularSize;
+    private volatile Map<String, RecentIdPool> pools = new ConcurrentHashMap<>();
+    private volatile RecentIdPool popular = new RecentIdPool();
+
+    public DebateRecommendationPool(TranslatedDebateRepository translatedDebateRepository,
+                                    DebateRepository debateRepository,
+                                    @Value("${recommendation-pool.days}") int days,
+                                    @Value("${recommendation.popular-size}") int popularSize) {
+        this.translatedDebateRepository = translatedDebateRepository;
+        this.debateRepository = debateRepository;
+        this.days = days;
+        this.popularSize = popularSize;
+    }
+
+    public List<Long> sample(String category, String language, int count) {
+        RecentIdPool pool = pools.get(key(category, language));
+        if (pool == null) return List.of();
+        return pool.sample(count, ThreadLocalRandom.current());
+    }
+
+    // 최근 인기 토론 중 무작위 count 개 (카테고리 무관)
+    public List<Long> samplePopular(int count) {
+        return popular.sample(count, ThreadLocalRandom.current());
+    }
+
+    public void add(TranslatedDebate translatedDebate) {
+        String key = key(translatedDebate.getDebate().getCategory(), translatedDebate.getLanguage());
+        pools.computeIfAbsent(key, k -> new RecentIdPool()).add(translatedDebate.getDebate().getDebateId());
+    }
+
+    public void remove(Long debateId) {
+        for (RecentIdPool pool : pools.values()) {
+            pool.remove(debateId);
+        }
+        popular.remove(debateId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${recommendation-pool.rebuild-interval-ms}",
+            initialDelayString = "${recommendation-pool.rebuild-interval-ms}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<String, RecentIdPool> rebuilt = new ConcurrentHashMap<>();
+        try {
+            LocalDateTime since = LocalDate.now().minusDays(days).atStartOfDay();
+            List<Object[]> rows = translatedDebateRepository.findRecommendationRowsSince(since);
+            for (Object[] row : rows) { // category, language, debateId
+                rebuilt.computeIfAbsent(key((String) row[0], (String) row[1]), k -> new RecentIdPool())
+                        .add((Long) row[2]);
+            }
+            RecentIdPool rebuiltPopular = new RecentIdPool();
+            debateRepository.findPopularIdsSince(since, PageRequest.of(0, popularSize)).forEach(rebuiltPopular::add);
+            pools = rebuilt;
+            popular = rebuiltPopular;
+            log.info("recommendation pool rebuilt. rows={}, {}ms", rows.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("recommendation pool rebuild failed, keeping previous pool", e);
+        }
+    }
+
+    private static String key(String category, String language) {
+        return category + ":" + language;
+    }
+}
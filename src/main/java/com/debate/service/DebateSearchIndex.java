@@ -0,0 +1,110 @@
+package com.debate.service;
+
+import com.debate.entity.TranslatedDebate;
+import com.debate.repository.TranslatedDebateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import util.InvertedIndex;
+import util.InvertedIndex.Field;
+import util.SearchTokenizer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 언어별 토론 검색 색인 (제목/내용).
+ * 기동 시와 rebuild-interval-ms 마다 translated_debate 전체로 새로 만들어 교체하고, 그 사이에는 TranslationService 가
+ * 저장/삭제할 때마다 반영한다. 노드마다 따로 갖는 색인이라 다른 노드에서 번역된 글은 다음 재구성 때 보인다.
+ * 재구성 중에 들어온 변경은 새 색인에도 같이 반영해서 교체할 때 빠지지 않게 한다.
+ * 첫 재구성이 끝나기 전(isReady() == false)에는 검색이 기존 LIKE 쿼리로 처리된다.
+ */
+@Slf4j
+@Component
+public class DebateSearchIndex {
+    private static final int REBUILD_BATCH = 1000;
+
+    private final TranslatedDebateRepository translatedDebateRepository;
+    private volatile Map<String, InvertedIndex> indexes = new ConcurrentHashMap<>();
+    private volatile Map<String, InvertedIndex> building;
+    private volatile boolean ready = false;
+
+    public DebateSearchIndex(TranslatedDebateRepository translatedDebateRepository) {
+        this.translatedDebateRepository = translatedDebateRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void index(TranslatedDebate translatedDebate) {
+        Long debateId = translatedDebate.getDebate().getDebateId();
+        String category = translatedDebate.getDebate().getCategory();
+        index(indexes, debateId, category, translatedDebate.getLanguage(),
+                translatedDebate.getTitle(), translatedDebate.getContent());
+        Map<String, InvertedIndex> next = building;
+        if (next != null) {
+            index(next, debateId, category, translatedDebate.getLanguage(),
+                    translatedDebate.getTitle(), translatedDebate.getContent());
+        }
+    }
+
+    public void remove(Long debateId) {
+        remove(indexes, debateId);
+        Map<String, InvertedIndex> next = building;
+        if (next != null) remove(next, debateId);
+    }
+
+    public List<Long> search(String language, String category, String keyword, Field field) {
+        InvertedIndex index = indexes.get(language);
+        if (index == null) return List.of();
+        return index.search(keyword, category, field);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search-index.rebuild-interval-ms}",
+            initialDelayString = "${search-index.rebuild-interval-ms}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        long after = 0;
+        int rows = 0;
+        Map<String, InvertedIndex> rebuilt = new ConcurrentHashMap<>();
+        building = rebuilt;
+        try {
+            while (true) {
+                List<Object[]> batch = translatedDebateRepository.findIndexRowsAfter(
+                        after, PageRequest.of(0, REBUILD_BATCH));
+                if (batch.isEmpty()) break;
+                for (Object[] row : batch) { // translationDebateId, debateId, category, language, title, content
+                    index(rebuilt, (Long) row[1], (String) row[2], (String) row[3], (String) row[4], (String) row[5]);
+                    after = (Long) row[0];
+                }
+                rows += batch.size();
+            }
+            indexes = rebuilt;
+            ready = true;
+            log.info("debate search index built. rows={}, {}ms", rows, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("debate search index rebuild failed, keeping previous index", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private static void index(Map<String, InvertedIndex> target, Long debateId, String category,
+                              String language, String title, String content) {
+        if (debateId == null || language == null) return;
+        target.computeIfAbsent(language, l -> new InvertedIndex(SearchTokenizer.isCjk(l)))
+                .put(debateId, category, title, content);
+    }
+
+    private static void remove(Map<String, InvertedIndex> target, Long debateId) {
+        for (InvertedIndex index : target.values()) {
+            index.remove(debateId);
+        }
+    }
+}
@@ -1,16 +1,15 @@
 package com.debate.service;
 
+import com.debate.dto.AutocompleteResDto;
 import com.debate.dto.DebateReqDto;
 import com.debate.dto.DebateResDto;
 import com.debate.entity.*;
 import com.debate.repository.*;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.web.client.RestTemplate;
-import util.JwtUtil;
+import util.CounterBuffer;
+import util.InvertedIndex.Field;
+import util.CounterBuffer.Counter;
+import util.PrincipalResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,122 +19,46 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import util.TranslationJob;
 import util.TranslationQueue;
+import util.ViewTracker;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class DebateService {
-    private final JwtUtil jwtUtil;
+    private final PrincipalResolver principalResolver;
     private final TranslationQueue translationQueue;
+    private final DebateDtoAssembler debateDtoAssembler;
+    private final CounterBuffer counterBuffer;
+    private final ViewTracker viewTracker;
+    private final ListTotalCache listTotalCache;
+    private final DebateSearchIndex debateSearchIndex;
+    private final DebateAutocomplete debateAutocomplete;
+    private final TodaySnapshot todaySnapshot;
+    private final DebateRecommendationPool debateRecommendationPool;
+    private final PreferenceCache preferenceCache;
 
-    private final UserRepository userRepository;
     private final DebateRepository debateRepository;
     private final TranslatedDebateRepository translatedDebateRepository;
     private final VoteRepository voteRepository;
     private final DebateReactionRepository debateReactionRepository;
 
-    @Value("${ai.url}")
-    String aiUrl;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 10;
+    private static final int RECOMMEND_SIZE = 3;
+    private static final int SORT_CHUNK = 1000;
 
     private Optional<User> verifyToken(String token) {    // 토큰 검증 함수
-        try {
-            long userId = jwtUtil.getUserId(token);
-            User user = userRepository.findById(userId).orElse(null);
-            if(user == null) {
-                return Optional.empty();
-            }
-            return Optional.of(user);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
-    }
-
-    private static Map<String, Double> calculateVotePercent(Long agreeCnt, Long disagreeCnt) {
-        Long voteCnt = agreeCnt + disagreeCnt;
-        double agreePercent = 0;
-        double disagreePercent = 0;
-
-        if (voteCnt > 0) {
-            agreePercent = (double) agreeCnt * 100 / voteCnt;
-            disagreePercent = (double) disagreeCnt * 100 / voteCnt;
-        }
-
-        Map<String, Double> result = new HashMap<>();
-        result.put("agreePercent", agreePercent);
-        result.put("disagreePercent", disagreePercent);
-        return result;
-    }
-
-    private String getTopNationByDebateId(Long debateId) {
-        List<Vote> voteList = voteRepository.findByDebate_DebateId(debateId);
-        if (voteList.isEmpty()) return null;
-
-        Map<String, Long> nationCount = new HashMap<>();
-        for (Vote vote : voteList) {
-            String nation = vote.getUser().getNation();
-            nationCount.put(nation, nationCount.getOrDefault(nation, 0L) + 1);
-        }
-
-        return nationCount.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(null);
-    }
-
-    private DebateResDto DebateToDto(Debate debate, String language) {
-        TranslatedDebate translatedDebate = translatedDebateRepository
-                .findByDebate_DebateIdAndLanguage(debate.getDebateId(), language);
-
-        Map<String, Double> percentMap =
-                calculateVotePercent(debate.getAgreeCnt(), debate.getDisagreeCnt());
-
-        DebateResDto dto = DebateResDto.builder()
-                .title(translatedDebate.getTitle())
-                .debateId(debate.getDebateId())
-                .views(debate.getViews())
-                .createdAt(debate.getCreatedAt())
-                .voteCnt(debate.getVoteCnt())
-                .agreePercent(percentMap.get("agreePercent"))
-                .disagreePercent(percentMap.get("disagreePercent"))
-                .commentCnt(debate.getCommentCnt())
-                .category(debate.getCategory())
-                .nation(getTopNationByDebateId(debate.getDebateId()))
-                .build();
-
-        return dto;
+        return principalResolver.resolve(token);
     }
 
-    private List<DebateResDto> transDebateToDto(List<TranslatedDebate> translatedDebateList) {
-        List<DebateResDto> dtoList = new ArrayList<>();
-        for(TranslatedDebate translatedDebate : translatedDebateList) {
-            Debate debate = translatedDebate.getDebate();
-
-            Map<String, Double> percentMap =
-                    calculateVotePercent(debate.getAgreeCnt(), debate.getDisagreeCnt());
-
-            DebateResDto dto = DebateResDto.builder()
-                    .title(translatedDebate.getTitle())
-                    .debateId(debate.getDebateId())
-                    .views(debate.getViews())
-                    .createdAt(debate.getCreatedAt())
-                    .voteCnt(debate.getVoteCnt())
-                    .agreePercent(percentMap.get("agreePercent"))
-                    .disagreePercent(percentMap.get("disagreePercent"))
-                    .commentCnt(debate.getCommentCnt())
-                    .category(debate.getCategory())
-                    .nation(getTopNationByDebateId(debate.getDebateId()))
-                    .build();
-            dtoList.add(dto);
+    @Transactional
+    public ResponseEntity<?> write(DebateReqDto debateReqDto) {
+        if(!translationQueue.admits("debate", false)){ // 번역 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("번역 대기 중인 글이 많음. 잠시 후 다시 시도");
         }
-        return dtoList;
-    }
 
-    public ResponseEntity<?> write(DebateReqDto debateReqDto) {
         Debate debate = Debate.builder()
                 .category(debateReqDto.getCategory())
                 .views(0L)
@@ -179,58 +102,70 @@ public class DebateService {
 
         long total = debateList.getTotalElements();
 
-        List<DebateResDto> debateResDtoList = new ArrayList<>();
+        List<DebateResDto> debateResDtoList = debateDtoAssembler.toDtoList(debateList.getContent(), language);
 
-        for(Debate debate : debateList) {
-            debateResDtoList.add(DebateToDto(debate, language));
-        }
         return ResponseEntity.ok(Map.of(
                 "debateList", debateResDtoList,
                 "total", total));
     }
 
-    public ResponseEntity<?> getTodayDebate(String token) {
+    public ResponseEntity<?> getDebatesByCursor(String token, String cursor, int size, String sort, String category) {
         Optional<User> user = verifyToken(token);
-        if (user.isEmpty()) {
+        if(user.isEmpty()) {
             return ResponseEntity.badRequest().body("유효하지 않은 토큰");
         }
 
         String language = user.get().getLanguage();
 
-        String today = LocalDate.now().toString();
-        List<Debate> todayDebateList = debateRepository.findAllByCreatedAtToday(today);
-
-        List<DebateResDto> todayDebateResDtoList = new ArrayList<>();
-
-        for (Debate debate : todayDebateList) {
-            todayDebateResDtoList.add(DebateToDto(debate, language));
+        KeysetSort keysetSort = KeysetSort.forDebate(sort);
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Object lastValue = null;
+        Long lastId = null;
+        if(cursor != null && !cursor.isEmpty()) {
+            try {
+                Object[] position = keysetSort.decodeCursor(cursor);
+                lastValue = position[0];
+                lastId = (Long) position[1];
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body("유효하지 않은 커서");
+            }
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-        String start = LocalDateTime.now().minusDays(7).format(formatter);
-        String end = LocalDateTime.now().format(formatter);
+        List<Debate> debateList = debateRepository.findKeysetPage(category, keysetSort, lastValue, lastId, size + 1);
 
-        Debate topDebate = debateRepository.findTopDebateInLastWeek(start, end);
+        String nextCursor = null;
+        if(debateList.size() > size) {
+            debateList = debateList.subList(0, size);
+            Debate last = debateList.get(size - 1);
+            nextCursor = keysetSort.encodeCursor(keysetValue(keysetSort, last), last.getDebateId());
+        }
 
-        DebateResDto topDebateResDto = DebateToDto(topDebate, language);
+        Map<String, Object> result = new HashMap<>();
+        result.put("debateList", debateDtoAssembler.toDtoList(debateList, language));
+        result.put("total", listTotalCache.debateTotal(category)); // 근사값
+        result.put("nextCursor", nextCursor);
+        return ResponseEntity.ok(result);
+    }
 
-        Debate balancedDebate = debateRepository.findMostBalancedDebateThisWeek(start, end);
+    private static Object keysetValue(KeysetSort sort, Debate debate) {
+        return switch (sort) {
+            case DEBATE_VIEW -> debate.getViews();
+            case DEBATE_COMMENT -> debate.getCommentCnt();
+            case DEBATE_VOTE -> debate.getVoteCnt();
+            default -> debate.getCreatedAt();
+        };
+    }
 
-        if(balancedDebate == null){
-            return ResponseEntity.ok(Map.of(
-                    "todayDebateList", todayDebateResDtoList,
-                    "topDebate", topDebateResDto
-            ));
+    public ResponseEntity<?> getTodayDebate(String token) {
+        Optional<User> user = verifyToken(token);
+        if (user.isEmpty()) {
+            return ResponseEntity.badRequest().body("유효하지 않은 토큰");
         }
 
-        DebateResDto balancedDebateResDto = DebateToDto(balancedDebate, language);
+        String language = user.get().getLanguage();
 
-        return ResponseEntity.ok(Map.of(
-                "todayDebateList", todayDebateResDtoList,
-                "topDebate", topDebateResDto,
-                "balancedDebate", balancedDebateResDto
-        ));
+        return ResponseEntity.ok(todaySnapshot.get(language));
     }
 
     public ResponseEntity<?> searchDebate(String token, int page, int size, String sort, String category,
@@ -242,6 +177,97 @@ public class DebateService {
 
         String language = user.get().getLanguage();
 
+        if(!debateSearchIndex.isReady()) { // 기동 직후 색인 재구성 중
+            return searchDebateByLike(language, page, size, sort, category, keyword, searchBy);
+        }
+
+        Field field;
+        if(searchBy.equals("제목")) {
+            field = Field.TITLE;
+        } else if (searchBy.equals("내용")) {
+            field = Field.CONTENT;
+        } else {
+            field = Field.ANY;
+        }
+        List<Long> matchedIds = debateSearchIndex.search(language, category, keyword, field); // 관련도 순
+
+        List<Long> pageIds;
+        switch (sort) {
+            case "view":
+                pageIds = sortMatchedIds(matchedIds, page, size, "views");
+                break;
+            case "comment":
+                pageIds = sortMatchedIds(matchedIds, page, size, "commentCnt");
+                break;
+            case "vote":
+                pageIds = sortMatchedIds(matchedIds, page, size, "voteCnt");
+                break;
+            case "relevance":
+                pageIds = slice(matchedIds, page, size);
+                break;
+            default: // 최신순. id 는 생성 순서와 같다
+                List<Long> latest = new ArrayList<>(matchedIds);
+                latest.sort(Comparator.reverseOrder());
+                pageIds = slice(latest, page, size);
+        }
+
+        // 해당 페이지의 번역 행만 읽는다
+        Map<Long, TranslatedDebate> rows = new HashMap<>();
+        if(!pageIds.isEmpty()) {
+            for (TranslatedDebate translatedDebate :
+                    translatedDebateRepository.findByDebate_DebateIdInAndLanguage(pageIds, language)) {
+                rows.put(translatedDebate.getDebate().getDebateId(), translatedDebate);
+            }
+        }
+        List<TranslatedDebate> pageRows = new ArrayList<>();
+        for (Long debateId : pageIds) {
+            TranslatedDebate translatedDebate = rows.get(debateId);
+            if(translatedDebate != null) pageRows.add(translatedDebate);
+        }
+
+        List<DebateResDto> debateResDtoList = debateDtoAssembler.fromTranslated(pageRows);
+
+        return ResponseEntity.ok(Map.of(
+                "debateList", debateResDtoList,
+                "total", (long) matchedIds.size()
+        ));
+    }
+
+    // IN 목록이 길어지지 않도록 SORT_CHUNK 개씩 나눠서 구간별 상위 (page + 1) * size 개만 받고, 합쳐서 다시 정렬한다
+    private List<Long> sortMatchedIds(List<Long> matchedIds, int page, int size, String property) {
+        if(matchedIds.isEmpty()) return List.of();
+        int column = switch (property) {
+            case "views" -> 1;
+            case "commentCnt" -> 2;
+            default -> 3; // voteCnt
+        };
+        int limit = (int) Math.min((long) (page + 1) * size, Integer.MAX_VALUE);
+        Sort sortOption = Sort.by(Sort.Direction.DESC, property).and(Sort.by(Sort.Direction.DESC, "debateId"));
+
+        List<Object[]> candidates = new ArrayList<>();
+        for (int from = 0; from < matchedIds.size(); from += SORT_CHUNK) {
+            List<Long> chunk = matchedIds.subList(from, Math.min(from + SORT_CHUNK, matchedIds.size()));
+            candidates.addAll(debateRepository.findSortKeysByDebateIdIn(chunk, PageRequest.of(0, limit, sortOption)));
+        }
+        candidates.sort(Comparator.<Object[]>comparingLong(row -> row[column] == null ? 0L : (Long) row[column])
+                .thenComparingLong(row -> (Long) row[0])
+                .reversed());
+
+        List<Long> sortedIds = new ArrayList<>(candidates.size());
+        for (Object[] row : candidates) {
+            sortedIds.add((Long) row[0]);
+        }
+        return slice(sortedIds, page, size);
+    }
+
+    private static List<Long> slice(List<Long> ids, int page, int size) {
+        int from = (int) Math.min((long) page * size, ids.size());
+        int to = Math.min(from + size, ids.size());
+        return ids.subList(from, to);
+    }
+
+    private ResponseEntity<?> searchDebateByLike(String language, int page, int size, String sort, String category,
+                                                 String keyword, String searchBy) {
         Sort sortOption;
         switch (sort) {
             case "view":
@@ -268,7 +294,7 @@ public class DebateService {
         }
 
         long total = debateList.getTotalElements();
-        List<DebateResDto> debateResDtoList = transDebateToDto(debateList.getContent());
+        List<DebateResDto> debateResDtoList = debateDtoAssembler.fromTranslated(debateList.getContent());
 
         return ResponseEntity.ok(Map.of(
                 "debateList", debateResDtoList,
@@ -276,6 +302,27 @@ public class DebateService {
         ));
     }
 
+    public ResponseEntity<?> autocomplete(String token, String prefix, int size) {
+        Optional<User> user = verifyToken(token);
+        if(user.isEmpty()) {
+            return ResponseEntity.badRequest().body("유효하지 않은 토큰");
+        }
+
+        if(prefix == null || prefix.isBlank()) {
+            return ResponseEntity.ok(List.of());
+        }
+
+        size = Math.max(1, Math.min(size, MAX_AUTOCOMPLETE_SIZE));
+        List<AutocompleteResDto> result = new ArrayList<>();
+        for (Map.Entry<Long, String> entry : debateAutocomplete.complete(user.get().getLanguage(), prefix, size)) {
+            result.add(AutocompleteResDto.builder()
+                    .debateId(entry.getKey())
+                    .title(entry.getValue())
+                    .build());
+        }
+        return ResponseEntity.ok(result);
+    }
+
     @Transactional
     public ResponseEntity<?> reactToDebate(String token, long debateId, DebateReqDto debateReqDto) {
         Optional<User> user = verifyToken(token);
@@ -299,27 +346,25 @@ public class DebateService {
                     .option(debateReqDto.getEmotion())
                     .build();
             debateReactionRepository.save(debateReaction);
+            debateRepository.addReaction(debateId, debateReqDto.getEmotion(), 1);
         }
         else{
             if(debateReaction.getOption().equals(debateReqDto.getEmotion())) {
                 debateReactionRepository.delete(debateReaction);
+                debateRepository.addReaction(debateId, debateReqDto.getEmotion(), -1);
             }
             else{
                 return ResponseEntity.badRequest().body("하나의 감정표현만 가능");
             }
         }
-        long like = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "좋아요");
-        long dislike = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "싫어요");
-        long sad = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "슬퍼요");
-        long angry = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "화나요");
-        long hm = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "글쎄요");
+        debate = debateRepository.findById(debateId).get(); // 증감 반영된 집계
 
         DebateResDto debateResDto = DebateResDto.builder()
-                .like(like)
-                .dislike(dislike)
-                .sad(sad)
-                .angry(angry)
-                .hm(hm)
+                .like(debate.getLikeCnt())
+                .dislike(debate.getDislikeCnt())
+                .sad(debate.getSadCnt())
+                .angry(debate.getAngryCnt())
+                .hm(debate.getHmCnt())
                 .build();
 
         return ResponseEntity.ok(debateResDto);
@@ -333,25 +378,21 @@ public class DebateService {
         String language = user.get().getLanguage();
 
         Debate debate = debateRepository.findById(debateId).get();
+        viewTracker.record(debateId, user.get().getUserId());
 
         TranslatedDebate translatedDebate = translatedDebateRepository
                 .findByDebate_DebateIdAndLanguage(debateId, language);
 
-        long like = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "좋아요");
-        long dislike = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "싫어요");
-        long sad = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "슬퍼요");
-        long angry = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "화나요");
-        long hm = debateReactionRepository.countByDebate_DebateIdAndOption(debateId, "글쎄요");
-
-        Map<String, Double> percentMap =
-                calculateVotePercent(debate.getAgreeCnt(), debate.getDisagreeCnt());
+        Map<String, Double> percentMap = debateDtoAssembler.getVotePercent(debate);
 
         DebateResDto debateResDto = new DebateResDto(
-                debateId, debate.getViews(), like, dislike, sad, angry, hm,
-                debate.getVoteCnt(), debate.getCommentCnt(),
+                debateId, counterBuffer.get(Counter.DEBATE_VIEWS, debateId, debate.getViews()) + viewTracker.pending(debateId),
+                debate.getLikeCnt(), debate.getDislikeCnt(), debate.getSadCnt(), debate.getAngryCnt(), debate.getHmCnt(),
+                counterBuffer.get(Counter.DEBATE_VOTE_CNT, debateId, debate.getVoteCnt()),
+                counterBuffer.get(Counter.DEBATE_COMMENT_CNT, debateId, debate.getCommentCnt()),
                 percentMap.get("disagreePercent"), percentMap.get("agreePercent"),
                 translatedDebate.getTitle(), translatedDebate.getContent(),
-                debate.getCreatedAt(), debate.getCategory(),getTopNationByDebateId(debateId)
+                debate.getCreatedAt(), debate.getCategory(), debateDtoAssembler.getTopNation(debateId)
         );
 
         DebateReaction debateReaction = debateReactionRepository
@@ -382,11 +423,8 @@ public class DebateService {
 
         long total = voteList.getTotalElements();
 
-        List<DebateResDto> debateResDtoList = new ArrayList<>();
-
-        for(Vote vote : voteList){
-            debateResDtoList.add(DebateToDto(vote.getDebate(), language));
-        }
+        List<Debate> votedDebateList = voteList.getContent().stream().map(Vote::getDebate).toList();
+        List<DebateResDto> debateResDtoList = debateDtoAssembler.toDtoList(votedDebateList, language);
 
         return ResponseEntity.ok(Map.of(
                 "debateList", debateResDtoList,
@@ -399,94 +437,76 @@ public class DebateService {
             return ResponseEntity.badRequest().body("유효하지 않은 토큰");
         }
 
-        long userId = user.get().getUserId();
-
-        String url = aiUrl + "/user/" + userId + "/preferences";
-
-        RestTemplate restTemplate = new RestTemplate();
+        String language = user.get().getLanguage();
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", token);
+        // AI 서버가 느리거나 응답하지 않으면 선호도 없이 최근 인기 토론으로 대신한다
+        Optional<Map<String, Double>> preferences = preferenceCache.get(user.get().getUserId(), token);
+        if(preferences.isEmpty() || preferences.get().isEmpty()) {
+            List<Long> popularIds = debateRecommendationPool.samplePopular(RECOMMEND_SIZE);
+            return ResponseEntity.ok(Map.of(
+                    "debateList", hydrateRecommendations(List.of(popularIds), language),
+                    "analysis", Map.of(),
+                    "fallback", true
+            ));
+        }
+        Map<String, Double> preferencesMap = preferences.get();
 
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+        List<Map.Entry<String, Double>> sortedTag = preferencesMap.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()).toList();
 
-        if(!response.getStatusCode().is2xxSuccessful()) {
-            return ResponseEntity.status(response.getStatusCode()).body("유저 선호도 불러오기 실패");
+        // 선호도가 뚜렷하면 1순위 2개 + 2순위 1개, 아니면 1~3순위 1개씩
+        Map<String, Integer> picks = new LinkedHashMap<>();
+        if(sortedTag.get(0).getValue() >= 0.9){
+            picks.put(sortedTag.get(0).getKey(), 2);
+            if (sortedTag.size() > 1) picks.put(sortedTag.get(1).getKey(), 1);
         }
-
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode;
-        try{
-            rootNode = objectMapper.readTree(response.getBody());
-        }catch(JsonProcessingException e){
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("선호도 불러오기 실패");
+        else{
+            for (Map.Entry<String, Double> tag : sortedTag.subList(0, Math.min(3, sortedTag.size()))) {
+                picks.put(tag.getKey(), 1);
+            }
         }
 
-        JsonNode discussionPreferences = rootNode.path("discussion_preferences");
-        if(discussionPreferences.isMissingNode()) {
-            return ResponseEntity.badRequest().body("discussion_preferences 항목이 존재하지 않음");
+        List<List<Long>> sampledIds = new ArrayList<>();
+        for (Map.Entry<String, Integer> pick : picks.entrySet()) {
+            sampledIds.add(debateRecommendationPool.sample(pick.getKey(), language, pick.getValue()));
         }
 
-        Map<String, Double> preferencesMap = new HashMap<>();
-        discussionPreferences.fields().forEachRemaining(field -> {
-            preferencesMap.put(field.getKey(), field.getValue().doubleValue());
-        });
-
-        List<Map.Entry<String, Double>> sortedTag = preferencesMap.entrySet().stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue().reversed()).toList();
-
-        Map.Entry<String, Double> bestTag = sortedTag.get(0);
-        Map.Entry<String, Double> secondTag = sortedTag.get(1);
-        Map.Entry<String, Double> thirdTag = sortedTag.get(2);
+        return ResponseEntity.ok(Map.of(
+                "debateList", hydrateRecommendations(sampledIds, language),
+                "analysis", preferencesMap,
+                "fallback", false
+        ));
+    }
 
-        String language = user.get().getLanguage();
-        String sevenDaysAgo = LocalDate.now().minusDays(7).toString();
+    // 뽑힌 토론을 한 번에 조회 (번역 1회 + 국가 통계 1회). 그룹 구조는 그대로 유지
+    private List<List<DebateResDto>> hydrateRecommendations(List<List<Long>> sampledIds, String language) {
+        List<Long> allIds = sampledIds.stream().flatMap(List::stream).toList();
+        Map<Long, TranslatedDebate> translatedById = new HashMap<>();
+        if (!allIds.isEmpty()) {
+            List<TranslatedDebate> translatedList =
+                    translatedDebateRepository.findByDebate_DebateIdInAndLanguage(allIds, language);
+            for (TranslatedDebate translatedDebate : translatedList) {
+                translatedById.put(translatedDebate.getDebate().getDebateId(), translatedDebate);
+            }
+        }
+        List<TranslatedDebate> found = new ArrayList<>();
+        List<Integer> groupSizes = new ArrayList<>();
+        for (List<Long> ids : sampledIds) {
+            int before = found.size();
+            for (Long id : ids) {
+                TranslatedDebate translatedDebate = translatedById.get(id);
+                if (translatedDebate != null) found.add(translatedDebate); // 풀 재구성 전에 삭제된 토론은 건너뛴다
+            }
+            groupSizes.add(found.size() - before);
+        }
+        List<DebateResDto> dtoList = debateDtoAssembler.fromTranslated(found);
 
         List<List<DebateResDto>> debateResDtoList = new ArrayList<>();
-
-        if(bestTag.getValue() >= 0.9){
-            List<TranslatedDebate> debateList = translatedDebateRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            bestTag.getKey(), language, sevenDaysAgo, 2
-                    );
-
-            List<DebateResDto> debateDto = transDebateToDto(debateList);
-            debateResDtoList.add(debateDto);
-
-            debateList = translatedDebateRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            secondTag.getKey(), language, sevenDaysAgo, 1
-                    );
-            debateDto = transDebateToDto(debateList);
-            debateResDtoList.add(debateDto);
-        }
-        else{
-            List<TranslatedDebate> debateList = translatedDebateRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            bestTag.getKey(), language, sevenDaysAgo, 1
-                    );
-
-            List<DebateResDto> debateDto = transDebateToDto(debateList);
-            debateResDtoList.add(debateDto);
-
-            debateList = translatedDebateRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            secondTag.getKey(), language, sevenDaysAgo, 1
-                    );
-            debateDto = transDebateToDto(debateList);
-            debateResDtoList.add(debateDto);
-
-            debateList = translatedDebateRepository
-                    .findRandomByTagAndLanguageAndRecentDayAndCount(
-                            thirdTag.getKey(), language, sevenDaysAgo, 1
-                    );
-            debateDto = transDebateToDto(debateList);
-            debateResDtoList.add(debateDto);
+        int offset = 0;
+        for (int groupSize : groupSizes) {
+            debateResDtoList.add(new ArrayList<>(dtoList.subList(offset, offset + groupSize)));
+            offset += groupSize;
         }
-        return ResponseEntity.ok(Map.of(
-                "debateList", debateResDtoList,
-                "analysis", preferencesMap
-        ));
+        return debateResDtoList;
     }
 }
@@ -0,0 +1,170 @@
+package com.debate.service;
+
+import com.debate.entity.TranslatedComment;
+import com.debate.entity.TranslatedReply;
+import com.debate.repository.CommentRepository;
+import com.debate.repository.ReplyRepository;
+import com.debate.repository.TranslatedCommentRepository;
+import com.debate.repository.TranslatedReplyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 지연 번역. 조회한 언어의 번역이 없는 댓글/답글을 그 자리에서 번역해 저장한다.
+ * 같은 (글, 언어)를 동시에 여러 명이 읽어도 번역 요청은 한 번만 나간다(single-flight).
+ * read-wait 안에 번역이 끝나지 않으면 원문을 돌려주고, 번역은 계속 진행되어 다음 조회부터 반영된다.
+ * 지표: translation.lazy.requests, translation.lazy.fallbacks
+ */
+@Slf4j
+@Component
+public class LazyTranslator {
+    private final TranslatedCommentRepository translatedCommentRepository;
+    private final TranslatedReplyRepository translatedReplyRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final TranslationService translationService;
+    private final Duration readWait;
+    private final ConcurrentHashMap<String, CompletableFuture<Optional<String>>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter requests;
+    private final Counter fallbacks;
+
+    public LazyTranslator(TranslatedCommentRepository translatedCommentRepository,
+                          TranslatedReplyRepository translatedReplyRepository,
+                          CommentRepository commentRepository,
+                          ReplyRepository replyRepository,
+                          TranslationService translationService,
+                          MeterRegistry meterRegistry,
+                          @Value("${translation.lazy.read-wait}") Duration readWait) {
+        this.translatedCommentRepository = translatedCommentRepository;
+        this.translatedReplyRepository = translatedReplyRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.translationService = translationService;
+        this.readWait = readWait;
+        this.requests = meterRegistry.counter("translation.lazy.requests");
+        this.fallbacks = meterRegistry.counter("translation.lazy.fallbacks");
+    }
+
+    // 번역 행이 없는 댓글들의 내용. 원문 언어를 모르는(지연 모드 이전) 댓글은 결과에 없다
+    public Map<Long, String> commentContents(Collection<Long> commentIds, String language) {
+        if (commentIds.isEmpty()) return new HashMap<>();
+
+        Map<Long, String> sources = new HashMap<>();
+        Map<Long, CompletableFuture<Optional<String>>> futures = new HashMap<>();
+        for (Object[] row : translatedCommentRepository.findSourceContents(commentIds)) {
+            Long commentId = (Long) row[0];
+            String sourceLang = (String) row[1];
+            String content = (String) row[2];
+            sources.put(commentId, content);
+            futures.put(commentId, singleFlight("comment:" + commentId + ":" + language, () ->
+                    translationService.translateAsync(content, sourceLang, language).thenApply(result -> {
+                        result.ifPresent(translated -> saveComment(commentId, sourceLang, content, language, translated));
+                        return result;
+                    })));
+        }
+        return await(futures, sources);
+    }
+
+    public Map<Long, String> replyContents(Collection<Long> replyIds, String language) {
+        if (replyIds.isEmpty()) return new HashMap<>();
+
+        Map<Long, String> sources = new HashMap<>();
+        Map<Long, CompletableFuture<Optional<String>>> futures = new HashMap<>();
+        for (Object[] row : translatedReplyRepository.findSourceContents(replyIds)) {
+            Long replyId = (Long) row[0];
+            String sourceLang = (String) row[1];
+            String content = (String) row[2];
+            sources.put(replyId, content);
+            futures.put(replyId, singleFlight("reply:" + replyId + ":" + language, () ->
+                    translationService.translateAsync(content, sourceLang, language).thenApply(result -> {
+                        result.ifPresent(translated -> saveReply(replyId, sourceLang, content, language, translated));
+                        return result;
+                    })));
+        }
+        return await(futures, sources);
+    }
+
+    private CompletableFuture<Optional<String>> singleFlight(String key, Supplier<CompletableFuture<Optional<String>>> translation) {
+        CompletableFuture<Optional<String>> existing = inFlight.get(key);
+        if (existing != null) return existing;
+
+        CompletableFuture<Optional<String>> created = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) return existing;
+
+        requests.increment();
+        try {
+            translation.get().whenComplete((result, e) -> {
+                inFlight.remove(key, created);
+                if (e != null) created.completeExceptionally(e);
+                else created.complete(result);
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private Map<Long, String> await(Map<Long, CompletableFuture<Optional<String>>> futures, Map<Long, String> sources) {
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(readWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) { // 시간 초과, 한도 초과 등은 원문으로 대신한다
+            log.debug("lazy translation not ready, serving source text", e);
+        }
+
+        Map<Long, String> result = new HashMap<>();
+        for (Map.Entry<Long, CompletableFuture<Optional<String>>> entry : futures.entrySet()) {
+            CompletableFuture<Optional<String>> future = entry.getValue();
+            String translated = (future.isDone() && !future.isCompletedExceptionally())
+                    ? future.join().orElse(null)
+                    : null;
+            if (translated == null) fallbacks.increment();
+            result.put(entry.getKey(), translated != null ? translated : sources.get(entry.getKey()));
+        }
+        return result;
+    }
+
+    private void saveComment(Long commentId, String sourceLang, String source, String language, String content) {
+        TranslatedComment current = translatedCommentRepository.findByComment_CommentIdAndLanguage(commentId, sourceLang);
+        if (current == null || !source.equals(current.getContent())) return; // 번역하는 동안 수정/삭제됨
+        try {
+            translatedCommentRepository.save(TranslatedComment.builder()
+                    .comment(commentRepository.getReferenceById(commentId))
+                    .language(language)
+                    .content(content)
+                    .build());
+        } catch (DataIntegrityViolationException e) { // 다른 노드가 먼저 저장 (uk_translated_comment_comment_language)
+            log.debug("translated comment {} {} already stored", commentId, language);
+        }
+    }
+
+    private void saveReply(Long replyId, String sourceLang, String source, String language, String content) {
+        TranslatedReply current = translatedReplyRepository.findByReply_ReplyIdAndLanguage(replyId, sourceLang);
+        if (current == null || !source.equals(current.getContent())) return;
+        try {
+            translatedReplyRepository.save(TranslatedReply.builder()
+                    .reply(replyRepository.getReferenceById(replyId))
+                    .language(language)
+                    .content(content)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("translated reply {} {} already stored", replyId, language);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.debate.service;
+
+import com.debate.repository.CommentRepository;
+import com.debate.repository.DebateRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 커서 페이지네이션 응답의 total 값 캐시.
+ * 매 요청마다 count(*) 를 다시 세지 않고 TTL 동안 같은 값을 돌려주므로 최대 TTL 만큼 어긋날 수 있다(근사값).
+ * 지표: cache.gets{result=hit|miss}, cache.size (name=listTotalCache)
+ */
+@Component
+public class ListTotalCache {
+    private final DebateRepository debateRepository;
+    private final CommentRepository commentRepository;
+    private final Cache<String, Long> totals;
+
+    public ListTotalCache(DebateRepository debateRepository, CommentRepository commentRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${list-total-cache.max-size}") long maxSize,
+                          @Value("${list-total-cache.ttl}") Duration ttl) {
+        this.debateRepository = debateRepository;
+        this.commentRepository = commentRepository;
+        this.totals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, totals, "listTotalCache");
+    }
+
+    public long debateTotal(String category) {
+        return totals.get("debate:" + category, key -> debateRepository.countByCategory(category));
+    }
+
+    public long commentTotal(long debateId) {
+        return totals.get("comment:" + debateId, key -> commentRepository.countByDebate_DebateId(debateId));
+    }
+}
@@ -0,0 +1,145 @@
+package com.debate.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 서버의 유저 토론 선호도(/user/{id}/preferences) 캐시. stale-while-revalidate.
+ * refresh-after 가 지난 값은 그대로 돌려주면서 aiRequestExecutor 에서 다시 받아 오고, ttl 이 지나면 버린다.
+ * 캐시에 없으면 wait 동안만 기다리고, 그 안에 못 받으면 빈 값을 돌려줘서 호출 쪽이 인기 토론으로 대신한다.
+ * 받아 오던 요청은 계속 진행되어 다음 요청부터 반영된다. 같은 유저의 요청은 한 번만 나간다(single-flight).
+ * 지표: recommendation.preferences{result=fresh|stale|loaded|unavailable}, cache.* (name=preferenceCache)
+ */
+@Slf4j
+@Component
+public class PreferenceCache {
+    private record Entry(Map<String, Double> preferences, long fetchedAt) {
+    }
+
+    private final RestTemplate aiRestTemplate;
+    private final ThreadPoolTaskExecutor aiRequestExecutor;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final String aiUrl;
+    private final long refreshAfterMs;
+    private final Duration wait;
+    private final Cache<Long, Entry> cache;
+    private final ConcurrentHashMap<Long, CompletableFuture<Map<String, Double>>> inFlight = new ConcurrentHashMap<>();
+
+    public PreferenceCache(@Qualifier("aiRestTemplate") RestTemplate aiRestTemplate,
+                           @Qualifier("aiRequestExecutor") ThreadPoolTaskExecutor aiRequestExecutor,
+                           ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${ai.url}") String aiUrl,
+                           @Value("${recommendation.preferences.max-size}") long maxSize,
+                           @Value("${recommendation.preferences.ttl}") Duration ttl,
+                           @Value("${recommendation.preferences.refresh-after}") Duration refreshAfter,
+                           @Value("${recommendation.preferences.wait}") Duration wait) {
+        this.aiRestTemplate = aiRestTemplate;
+        this.aiRequestExecutor = aiRequestExecutor;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.aiUrl = aiUrl;
+        this.refreshAfterMs = refreshAfter.toMillis();
+        this.wait = wait;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "preferenceCache");
+    }
+
+    // 카테고리 -> 선호도. 비어 있으면 AI 서버가 느리거나 응답하지 않는 중
+    public Optional<Map<String, Double>> get(long userId, String token) {
+        Entry entry = cache.getIfPresent(userId);
+        if (entry != null) {
+            boolean stale = System.currentTimeMillis() - entry.fetchedAt() >= refreshAfterMs;
+            if (stale) load(userId, token); // 기다리지 않는다
+            count(stale ? "stale" : "fresh");
+            return Optional.of(entry.preferences());
+        }
+
+        CompletableFuture<Map<String, Double>> future = load(userId, token);
+        try {
+            Map<String, Double> preferences = future.get(wait.toMillis(), TimeUnit.MILLISECONDS);
+            count("loaded");
+            return Optional.of(preferences);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) { // 시간 초과, AI 서버 오류, 차단기 열림, 작업 큐 가득 참
+            log.debug("user preferences not available for {}", userId, e);
+        }
+        count("unavailable");
+        return Optional.empty();
+    }
+
+    private CompletableFuture<Map<String, Double>> load(long userId, String token) {
+        CompletableFuture<Map<String, Double>> existing = inFlight.get(userId);
+        if (existing != null) return existing;
+
+        CompletableFuture<Map<String, Double>> created = new CompletableFuture<>();
+        existing = inFlight.putIfAbsent(userId, created);
+        if (existing != null) return existing;
+
+        try {
+            aiRequestExecutor.execute(() -> {
+                try {
+                    Map<String, Double> preferences = fetch(userId, token);
+                    cache.put(userId, new Entry(preferences, System.currentTimeMillis()));
+                    created.complete(preferences);
+                } catch (Exception e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(userId, created);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(userId, created);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private Map<String, Double> fetch(long userId, String token) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Authorization", token);
+
+        String body = aiRestTemplate.exchange(aiUrl + "/user/{id}/preferences",
+                HttpMethod.GET, new HttpEntity<>(headers), String.class, userId).getBody();
+        JsonNode discussionPreferences = objectMapper.readTree(body).path("discussion_preferences");
+        if (discussionPreferences.isMissingNode()) {
+            throw new IllegalStateException("discussion_preferences 항목이 존재하지 않음");
+        }
+
+        Map<String, Double> preferences = new HashMap<>();
+        discussionPreferences.fields().forEachRemaining(field ->
+                preferences.put(field.getKey(), field.getValue().doubleValue()));
+        return Map.copyOf(preferences);
+    }
+
+    private void count(String result) {
+        meterRegistry.counter("recommendation.preferences", "result", result).increment();
+    }
+}
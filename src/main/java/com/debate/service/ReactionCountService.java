@@ -0,0 +1,62 @@
+package com.debate.service;
+
+import com.debate.repository.CommentRepository;
+import com.debate.repository.DebateRepository;
+import com.debate.repository.ReplyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongSupplier;
+
+/**
+ * 감정표현 집계 컬럼(debate/comment/reply)을 reaction 테이블 기준으로 야간에 다시 맞춘다. 몇 번을 돌려도 결과는 같다.
+ * 기존 데이터 채우기는 V7 마이그레이션이 한다. id 구간(chunk-size)마다 따로 커밋해서 행 잠금을 오래 잡지 않고,
+ * CounterBuffer 로 모아서 반영하는 comment.heart 는 아직 반영되지 않은 증분을 덮어쓰지 않도록 대상에서 뺀다.
+ */
+@Slf4j
+@Service
+public class ReactionCountService {
+    private final DebateRepository debateRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long chunkSize;
+
+    public ReactionCountService(DebateRepository debateRepository,
+                                CommentRepository commentRepository,
+                                ReplyRepository replyRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${reaction-count.chunk-size}") long chunkSize) {
+        this.debateRepository = debateRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${reaction-count.reconcile-cron}")
+    public void reconcile() {
+        try {
+            long debates = recount(debateRepository::findMaxId, debateRepository::recountReactions);
+            long comments = recount(commentRepository::findMaxId, commentRepository::recountDislikes);
+            long replies = recount(replyRepository::findMaxId, replyRepository::recountReactions);
+            log.info("reaction counters reconciled. debate={}, comment={}, reply={}", debates, comments, replies);
+        } catch (Exception e) {
+            log.warn("reaction counter reconcile failed", e);
+        }
+    }
+
+    private long recount(LongSupplier maxId, LongBinaryOperator recountRange) {
+        long max = maxId.getAsLong();
+        long updated = 0;
+        for (long from = 1; from <= max; from += chunkSize) {
+            long start = from;
+            updated += transactionTemplate.execute(status -> recountRange.applyAsLong(start, start + chunkSize));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,73 @@
+package com.debate.service;
+
+import com.debate.dto.ReplyResDto;
+import com.debate.entity.Reply;
+import com.debate.repository.ReplyReactionRepository;
+import com.debate.repository.TranslatedReplyRepository;
+import com.debate.repository.VoteRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * 답글 페이지 DTO 일괄 조립.
+ * 번역 내용, 조회자의 감정표현, 작성자의 투표 상태를 페이지 전체에 대해 IN (...) 쿼리 한 번씩으로 가져온다.
+ * 좋아요/싫어요 수는 reply 의 집계 컬럼을 쓴다. 조회 언어의 번역이 없으면 LazyTranslator 로 채운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReplyPageLoader {
+    private final TranslatedReplyRepository translatedReplyRepository;
+    private final ReplyReactionRepository replyReactionRepository;
+    private final VoteRepository voteRepository;
+    private final LazyTranslator lazyTranslator;
+
+    public List<ReplyResDto> load(List<Reply> replyList, long viewerId, String language) {
+        if (replyList.isEmpty()) return new ArrayList<>();
+
+        List<Long> replyIds = replyList.stream().map(Reply::getReplyId).toList();
+        Set<Long> authorIds = new HashSet<>();
+        for (Reply reply : replyList) {
+            authorIds.add(reply.getUser().getUserId());
+        }
+        Long debateId = replyList.get(0).getComment().getDebate().getDebateId(); // 같은 댓글의 답글
+
+        Map<Long, String> contents = toMap(
+                translatedReplyRepository.findContentsByReplyIdsAndLanguage(replyIds, language));
+        List<Long> untranslated = replyIds.stream().filter(id -> !contents.containsKey(id)).toList();
+        contents.putAll(lazyTranslator.replyContents(untranslated, language)); // 지연 번역 모드
+        Map<Long, String> reactions = toMap(
+                replyReactionRepository.findOptionsByReplyIdsAndUserId(replyIds, viewerId));
+        Map<Long, String> voteStates = toMap(
+                voteRepository.findOptionsByDebateIdAndUserIds(debateId, authorIds));
+
+        List<ReplyResDto> replyResDtoList = new ArrayList<>();
+        for (Reply reply : replyList) {
+            Long replyId = reply.getReplyId();
+            ReplyResDto replyResDto = ReplyResDto.builder()
+                    .replyId(replyId)
+                    .content(contents.get(replyId))
+                    .like(reply.getHeart())
+                    .dislike(reply.getDislikeCnt())
+                    .userName(reply.getUser().getName())
+                    .nation(reply.getUser().getNation())
+                    .userId(reply.getUser().getUserId())
+                    .createdAt(reply.getCreatedAt())
+                    .isState(reactions.get(replyId))
+                    .voteState(voteStates.get(reply.getUser().getUserId()))
+                    .build();
+
+            replyResDtoList.add(replyResDto);
+        }
+        return replyResDtoList;
+    }
+
+    private static Map<Long, String> toMap(List<Object[]> rows) {
+        Map<Long, String> result = new HashMap<>();
+        for (Object[] row : rows) {
+            result.put((Long) row[0], (String) row[1]);
+        }
+        return result;
+    }
+}
@@ -6,18 +6,26 @@ import com.debate.dto.ReplyReqDto;
 import com.debate.dto.ReplyResDto;
 import com.debate.entity.*;
 import com.debate.repository.*;
-import util.JwtUtil;
+import util.CounterBuffer;
+import util.CursorCodec;
+import util.CounterBuffer.Counter;
+import util.PrincipalResolver;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import util.TranslationJob;
 import util.TranslationQueue;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -26,31 +34,27 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ReplyService {
     private final ReplyRepository replyRepository;
-    private final UserRepository userRepository;
-    private final DebateRepository debateRepository;
     private final TranslatedReplyRepository translatedReplyRepository;
     private final CommentRepository commentRepository;
     private final ReplyReactionRepository replyReactionRepository;
     private final VoteRepository voteRepository;
 
-    private final JwtUtil jwtUtil;
+    private final PrincipalResolver principalResolver;
     private final TranslationQueue translationQueue;
+    private final CounterBuffer counterBuffer;
+    private final ReplyPageLoader replyPageLoader;
+    private final LazyTranslator lazyTranslator;
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final ObjectMapper objectMapper;
 
+    static final int UNPAGED_LIMIT = 200;
+    static final int MAX_PAGE_SIZE = 100;
+
     private Optional<User> verifyToken(String token) {    // 토큰 검증 함수
-        try {
-            long userId = jwtUtil.getUserId(token);
-            User user = userRepository.findById(userId).orElse(null);
-            if(user == null) {
-                return Optional.empty();
-            }
-            return Optional.of(user);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return principalResolver.resolve(token);
     }
 
+    @Transactional
     public ResponseEntity<?> addReply(String token, ReplyReqDto replyReqDto) throws JsonProcessingException {
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
@@ -61,10 +65,15 @@ public class ReplyService {
             return ResponseEntity.badRequest().body("차단된 유저");
         }
 
+        if(!translationQueue.admits("reply", false)){ // 번역 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("번역 대기 중인 글이 많음. 잠시 후 다시 시도");
+        }
+
         Comment comment = commentRepository.findById(replyReqDto.getCommentId()).orElse(null);
         Reply reply = Reply.builder()
                 .comment(comment)
                 .user(user.get())
+                .sourceLanguage(replyReqDto.getLanguage())
                 .build();
         reply = replyRepository.save(reply);
 
@@ -85,11 +94,8 @@ public class ReplyService {
                 .voteState(voteState)
                 .build();
 
-        comment.setReplyCnt(comment.getReplyCnt() + 1);
-        commentRepository.save(comment);
-
-        comment.getDebate().setCommentCnt(comment.getDebate().getCommentCnt() + 1);
-        debateRepository.save(comment.getDebate());
+        counterBuffer.add(Counter.COMMENT_REPLY_CNT, comment.getCommentId(), 1);
+        counterBuffer.add(Counter.DEBATE_COMMENT_CNT, comment.getDebate().getDebateId(), 1);
 
         if(!comment.getUser().getUserId().equals(user.get().getUserId())) {
             KafkaCommentDto kafkaCommentDto = KafkaCommentDto.builder()
@@ -107,55 +113,56 @@ public class ReplyService {
         return ResponseEntity.ok(replyResDto);
     }
 
-    public ResponseEntity<?> getReply(String token, long commentId) {
+    public ResponseEntity<?> getReply(String token, long commentId) { // 기존 비페이지 방식 (최대 UNPAGED_LIMIT 개)
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
             return ResponseEntity.badRequest().body("유효하지 않은 토큰");
         }
         String language = user.get().getLanguage();
 
-        List<Reply> replyList = replyRepository.findByComment_CommentId(commentId);
+        List<Reply> replyList = replyRepository.findFirstPage(commentId, PageRequest.of(0, UNPAGED_LIMIT));
 
-        List<ReplyResDto> replyResDtoList = new ArrayList<>();
-        for(Reply reply : replyList) {
-            TranslatedReply translatedReply = translatedReplyRepository
-                    .findByReply_ReplyIdAndLanguage(reply.getReplyId(), language);
+        return ResponseEntity.ok(replyPageLoader.load(replyList, user.get().getUserId(), language));
+    }
 
-            long like = replyReactionRepository.countByReply_ReplyIdAndOption(reply.getReplyId(), "좋아요");
-            long dislike = replyReactionRepository.countByReply_ReplyIdAndOption(reply.getReplyId(), "싫어요");
+    public ResponseEntity<?> getReplyPage(String token, long commentId, String cursor, int size) {
+        Optional<User> user = verifyToken(token);
+        if(user.isEmpty()) {
+            return ResponseEntity.badRequest().body("유효하지 않은 토큰");
+        }
+        String language = user.get().getLanguage();
 
-            ReplyReaction replyReaction = replyReactionRepository
-                    .findByReply_ReplyIdAndUser_UserId(reply.getReplyId(), user.get().getUserId());
+        size = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, size + 1);
 
-            String option = null;
-            if(replyReaction != null) {
-                option = replyReaction.getOption();
+        List<Reply> replyList;
+        if(cursor == null || cursor.isEmpty()) {
+            replyList = replyRepository.findFirstPage(commentId, pageable);
+        }
+        else {
+            try {
+                String[] parts = CursorCodec.decode(cursor, 2);
+                replyList = replyRepository.findPageAfter(
+                        commentId, LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]), pageable);
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                return ResponseEntity.badRequest().body("유효하지 않은 커서");
             }
+        }
 
-            Vote vote = voteRepository.findByDebate_DebateIdAndUser_UserId(
-                    reply.getComment().getDebate().getDebateId(), reply.getUser().getUserId()
-            );
-
-            String voteState = (vote != null) ? vote.getOption() : null;
-
-            ReplyResDto replyResDto = ReplyResDto.builder()
-                    .replyId(reply.getReplyId())
-                    .content(translatedReply.getContent())
-                    .like(like)
-                    .dislike(dislike)
-                    .userName(reply.getUser().getName())
-                    .nation(reply.getUser().getNation())
-                    .userId(reply.getUser().getUserId())
-                    .createdAt(reply.getCreatedAt())
-                    .isState(option)
-                    .voteState(voteState)
-                    .build();
-
-            replyResDtoList.add(replyResDto);
+        String nextCursor = null;
+        if(replyList.size() > size) {
+            replyList = replyList.subList(0, size);
+            Reply last = replyList.get(size - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getReplyId());
         }
-        return ResponseEntity.ok(replyResDtoList);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("replyList", replyPageLoader.load(replyList, user.get().getUserId(), language));
+        result.put("nextCursor", nextCursor);
+        return ResponseEntity.ok(result);
     }
 
+    @Transactional
     public ResponseEntity<?> updateReply(String token, long replyId, ReplyReqDto replyReqDto) {
         Optional<User> user = verifyToken(token);
         if(user.isEmpty()) {
@@ -168,10 +175,15 @@ public class ReplyService {
 
         Reply reply = replyRepository.findByReplyId(replyId);
 
-        if(reply.getUser() != user.get()){
+        if(!reply.getUser().getUserId().equals(user.get().getUserId())){
             return ResponseEntity.badRequest().body("작성자만 수정 가능");
         }
 
+        if(!translationQueue.admits("reply", true)){ // 번역 대기열이 가득 참
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("번역 대기 중인 글이 많음. 잠시 후 다시 시도");
+        }
+
+        reply.setSourceLanguage(replyReqDto.getLanguage());
         translationQueue.enqueue(new TranslationJob(reply, replyReqDto, replyId));
 
         return ResponseEntity.ok(replyReqDto.getContent());
@@ -190,15 +202,13 @@ public class ReplyService {
 
         Reply reply = replyRepository.findByReplyId(replyId);
 
-        if(user.get() != reply.getUser() && !user.get().getRole().equals("ROLE_ADMIN")) {
+        if(!user.get().getUserId().equals(reply.getUser().getUserId()) && !user.get().getRole().equals("ROLE_ADMIN")) {
             return ResponseEntity.badRequest().body("작성자/관리자만 수정 가능");
         }
 
         Comment comment = reply.getComment();
-        comment.setReplyCnt(comment.getReplyCnt() - 1);
-        comment.getDebate().setCommentCnt(comment.getDebate().getCommentCnt() - 1);
-        debateRepository.save(comment.getDebate());
-        commentRepository.save(comment);
+        counterBuffer.add(Counter.COMMENT_REPLY_CNT, comment.getCommentId(), -1);
+        counterBuffer.add(Counter.DEBATE_COMMENT_CNT, comment.getDebate().getDebateId(), -1);
         replyRepository.delete(reply);
 
         return ResponseEntity.ok("삭제 완료");
@@ -229,9 +239,11 @@ public class ReplyService {
                     .build();
 
             replyReactionRepository.save(replyReaction);
+            replyRepository.addReaction(replyId, replyReqDto.getEmotion(), 1);
 
-            long like = replyReactionRepository.countByReply_ReplyIdAndOption(replyId, "좋아요");
-            long dislike = replyReactionRepository.countByReply_ReplyIdAndOption(replyId, "싫어요");
+            reply = replyRepository.findByReplyId(replyId); // 증감 반영된 집계
+            long like = reply.getHeart();
+            long dislike = reply.getDislikeCnt();
 
             return ResponseEntity.ok(Map.of(
                     "like", like,
@@ -242,9 +254,11 @@ public class ReplyService {
             if(replyReaction.getOption().equals(replyReqDto.getEmotion())) {
 
                 replyReactionRepository.delete(replyReaction);
+                replyRepository.addReaction(replyId, replyReqDto.getEmotion(), -1);
 
-                long like = replyReactionRepository.countByReply_ReplyIdAndOption(replyId, "좋아요");
-                long dislike = replyReactionRepository.countByReply_ReplyIdAndOption(replyId, "싫어요");
+                reply = replyRepository.findByReplyId(replyId);
+                long like = reply.getHeart();
+                long dislike = reply.getDislikeCnt();
                 return ResponseEntity.ok(Map.of(
                         "like", like,
                         "dislike", dislike
@@ -264,12 +278,22 @@ public class ReplyService {
         TranslatedReply translatedReply = translatedReplyRepository
                 .findByReply_ReplyIdAndLanguage(replyId, language);
 
+        Reply reply;
+        String content;
+        if (translatedReply != null) {
+            reply = translatedReply.getReply();
+            content = translatedReply.getContent();
+        } else { // 지연 번역 모드에서 아직 이 언어로 번역되지 않음
+            reply = replyRepository.findById(replyId).get();
+            content = lazyTranslator.replyContents(List.of(replyId), language).get(replyId);
+        }
+
         CommentResDto commentResDto = CommentResDto.builder()
-                .content(translatedReply.getContent())
-                .userName(translatedReply.getReply().getUser().getName())
-                .nation(translatedReply.getReply().getUser().getNation())
-                .userId(translatedReply.getReply().getUser().getUserId())
-                .createdAt(translatedReply.getReply().getCreatedAt())
+                .content(content)
+                .userName(reply.getUser().getName())
+                .nation(reply.getUser().getNation())
+                .userId(reply.getUser().getUserId())
+                .createdAt(reply.getCreatedAt())
                 .build();
         return ResponseEntity.ok(commentResDto);
     }
@@ -0,0 +1,121 @@
+package com.debate.service;
+
+import com.debate.dto.DebateResDto;
+import com.debate.entity.Debate;
+import com.debate.repository.DebateRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 화면 "오늘의 토론" 응답을 언어별로 미리 만들어 두는 스냅샷.
+ * 오늘 토론 목록 / 지난 7일 인기 토론 / 가장 팽팽한 토론 쿼리는 언어와 무관하므로 갱신마다 한 번만 돌리고,
+ * 8개 언어 DTO 는 DebateDtoAssembler 로 조립한다.
+ * refresh-interval-ms 마다 갱신하고, 토론 번역이 끝나면 requestRefresh() 로 다음 틱(1초)에 앞당겨 갱신한다.
+ * 조회수/투표수는 최대 갱신 주기만큼 늦을 수 있다.
+ */
+@Slf4j
+@Component
+public class TodaySnapshot {
+    private static final String[] LANGUAGES = {"KO", "EN", "JA", "ZH", "DE", "FR", "ES", "RU"};
+    private static final String DEFAULT_LANGUAGE = "KO";
+
+    private final DebateRepository debateRepository;
+    private final DebateDtoAssembler debateDtoAssembler;
+    private final long refreshIntervalMs;
+
+    private volatile Map<String, Map<String, Object>> snapshots = Map.of();
+    private volatile boolean dirty = true;
+    private volatile long refreshedAt = 0;
+
+    public TodaySnapshot(DebateRepository debateRepository, DebateDtoAssembler debateDtoAssembler,
+                         @Value("${today-snapshot.refresh-interval-ms}") long refreshIntervalMs) {
+        this.debateRepository = debateRepository;
+        this.debateDtoAssembler = debateDtoAssembler;
+        this.refreshIntervalMs = refreshIntervalMs;
+    }
+
+    public Map<String, Object> get(String language) {
+        String key = normalize(language);
+        Map<String, Object> snapshot = snapshots.get(key);
+        if (snapshot == null) { // 기동 직후 첫 갱신 전. 지원 언어는 갱신마다 모두 만들어진다
+            refreshIfEmpty();
+            snapshot = snapshots.get(key);
+        }
+        return snapshot;
+    }
+
+    // 동시에 들어온 첫 요청들은 먼저 들어온 갱신을 기다렸다가 그 결과를 쓴다
+    private synchronized void refreshIfEmpty() {
+        if (snapshots.isEmpty()) refresh();
+    }
+
+    // 없거나 지원하지 않는 언어는 기본 언어로 (요청마다 갱신이 돌지 않도록)
+    private static String normalize(String language) {
+        if (language == null) return DEFAULT_LANGUAGE;
+        String upper = language.trim().toUpperCase();
+        for (String supported : LANGUAGES) {
+            if (supported.equals(upper)) return supported;
+        }
+        return DEFAULT_LANGUAGE;
+    }
+
+    public void requestRefresh() {
+        dirty = true;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void tick() {
+        if (dirty || System.currentTimeMillis() - refreshedAt >= refreshIntervalMs) {
+            refresh();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void refresh() {
+        dirty = false;
+        try {
+            LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+            List<Debate> todayDebateList = debateRepository.findAllCreatedBetween(todayStart, todayStart.plusDays(1));
+
+            LocalDateTime end = LocalDateTime.now();
+            LocalDateTime start = end.minusDays(7);
+
+            Debate topDebate = debateRepository.findTopDebateInLastWeek(start, end);
+            Debate balancedDebate = debateRepository.findMostBalancedDebateThisWeek(start, end);
+
+            Map<String, Map<String, Object>> rebuilt = new HashMap<>();
+            for (String language : LANGUAGES) {
+                rebuilt.put(language, build(language, todayDebateList, topDebate, balancedDebate));
+            }
+            snapshots = rebuilt;
+            refreshedAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("today snapshot refresh failed, serving previous snapshot", e);
+        }
+    }
+
+    private Map<String, Object> build(String language, List<Debate> todayDebateList,
+                                      Debate topDebate, Debate balancedDebate) {
+        List<DebateResDto> todayDebateResDtoList = debateDtoAssembler.toDtoList(todayDebateList, language);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("todayDebateList", todayDebateResDtoList);
+        if (topDebate != null) {
+            result.put("topDebate", debateDtoAssembler.toDto(topDebate, language));
+        }
+        if (balancedDebate != null) {
+            result.put("balancedDebate", debateDtoAssembler.toDto(balancedDebate, language));
+        }
+        return Map.copyOf(result);
+    }
+}
@@ -0,0 +1,231 @@
+package com.debate.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import util.CircuitOpenException;
+import util.TokenBucket;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DeepL 요청 묶음 처리.
+ * /v2/translate 는 text 파라미터를 여러 개 받으므로 (원문 언어, 대상 언어)별로 짧은 시간(window-ms) 동안 모인 문장을
+ * 한 번의 요청으로 보내고, 응답 translations 배열을 순서대로 각 요청자에게 돌려준다.
+ * 토론 제목/내용, 같은 언어로 몰려 들어온 댓글들이 한 요청을 같이 쓴다.
+ * 개수(max-texts) 또는 크기(max-bytes)가 차면 기다리지 않고 바로 보낸다. 전송은 translationRequestExecutor 에서 한다.
+ * 전송 전에 글자 수만큼 토큰 버킷(translation.quota)에서 토큰을 받는다. max-wait 안에 못 받거나 DeepL 이 429/456 을 주면
+ * TranslationQuotaException 으로 끝내서 호출 쪽이 글을 지우지 않고 나중에 다시 시도하게 한다. 차단기가 열린 경우도 같다.
+ * 지표: translation.api.latency{target}, translation.api.errors{target,code}, translation.api.chars{target},
+ *       translation.requests.active, translation.requests.queued
+ */
+@Slf4j
+@Component
+public class TranslationBatcher {
+    private record LanguagePair(String source, String target) {
+    }
+
+    private record Segment(String text, CompletableFuture<Optional<String>> result) {
+    }
+
+    private static final class Batch {
+        private final List<Segment> segments = new ArrayList<>();
+        private int bytes;
+    }
+
+    private final String apiUrl;
+    private final String apiKey;
+    private final ThreadPoolTaskExecutor requestExecutor;
+    private final long windowMs;
+    private final int maxTexts;
+    private final int maxBytes;
+    private final TokenBucket quota;
+    private final long quotaMaxWaitNanos;
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Map<LanguagePair, Batch> batches = new HashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "translation-batch-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TranslationBatcher(@Value("${translation.api-url}") String apiUrl,
+                              @Value("${translation.api-key}") String apiKey,
+                              @Qualifier("translationRestTemplate") RestTemplate restTemplate,
+                              @Qualifier("translationRequestExecutor") ThreadPoolTaskExecutor requestExecutor,
+                              MeterRegistry meterRegistry,
+                              @Value("${translation.batch.window-ms}") long windowMs,
+                              @Value("${translation.batch.max-texts}") int maxTexts,
+                              @Value("${translation.batch.max-bytes}") int maxBytes,
+                              @Value("${translation.quota.chars-per-second}") double charsPerSecond,
+                              @Value("${translation.quota.burst-chars}") long burstChars,
+                              @Value("${translation.quota.max-wait}") Duration quotaMaxWait) {
+        this.apiUrl = apiUrl;
+        this.apiKey = apiKey;
+        this.restTemplate = restTemplate;
+        this.requestExecutor = requestExecutor;
+        this.windowMs = windowMs;
+        this.maxTexts = maxTexts;
+        this.maxBytes = maxBytes;
+        this.quota = new TokenBucket(burstChars, charsPerSecond);
+        this.quotaMaxWaitNanos = quotaMaxWait.toNanos();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("translation.requests.active", requestExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+        Gauge.builder("translation.requests.queued", requestExecutor, ThreadPoolTaskExecutor::getQueueSize)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Optional<String>> submit(String text, String sourceLang, String targetLang) {
+        LanguagePair pair = new LanguagePair(sourceLang.toUpperCase(), targetLang.toUpperCase());
+        Segment segment = new Segment(text, new CompletableFuture<>());
+        int size = text == null ? 0 : text.getBytes(StandardCharsets.UTF_8).length;
+
+        Batch full = null;
+        synchronized (batches) {
+            Batch batch = batches.get(pair);
+            if (batch != null && batch.bytes + size > maxBytes) { // 넣으면 넘치는 경우 기존 묶음부터 보낸다
+                full = batches.remove(pair);
+                batch = null;
+            }
+            if (batch == null) {
+                batch = new Batch();
+                batches.put(pair, batch);
+                Batch scheduled = batch;
+                timer.schedule(() -> flush(pair, scheduled), windowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.segments.add(segment);
+            batch.bytes += size;
+            if (batch.segments.size() >= maxTexts) {
+                batches.remove(pair);
+                dispatch(pair, batch);
+            }
+        }
+        if (full != null) dispatch(pair, full);
+        return segment.result();
+    }
+
+    private void flush(LanguagePair pair, Batch batch) {
+        synchronized (batches) {
+            if (!batches.remove(pair, batch)) return; // 이미 개수/크기로 보낸 묶음
+        }
+        dispatch(pair, batch);
+    }
+
+    private void dispatch(LanguagePair pair, Batch batch) {
+        try {
+            requestExecutor.execute(() -> send(pair, batch.segments));
+        } catch (Exception e) {
+            log.warn("translation batch rejected ({} -> {}, {} texts)", pair.source(), pair.target(), batch.segments.size(), e);
+            batch.segments.forEach(segment -> segment.result().complete(Optional.empty()));
+        }
+    }
+
+    private void send(LanguagePair pair, List<Segment> segments) {
+        long chars = 0;
+        for (Segment segment : segments) {
+            chars += segment.text() == null ? 0 : segment.text().length();
+        }
+        try {
+            if (!quota.acquire(chars, quotaMaxWaitNanos)) {
+                log.warn("translation quota exhausted ({} -> {}, {} chars)", pair.source(), pair.target(), chars);
+                error(pair, "quota");
+                failAll(segments, new TranslationQuotaException("translation quota exhausted"));
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failAll(segments, new TranslationQuotaException("interrupted while waiting for translation quota", e));
+            return;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+        body.add("auth_key", apiKey);
+        for (Segment segment : segments) {
+            body.add("text", segment.text());
+        }
+        body.add("source_lang", pair.source());
+        body.add("target_lang", pair.target());
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            ResponseEntity<Map> response = restTemplate.postForEntity(apiUrl, new HttpEntity<>(body, headers), Map.class);
+            sample.stop(meterRegistry.timer("translation.api.latency", "target", pair.target()));
+            meterRegistry.counter("translation.api.chars", "target", pair.target()).increment(chars);
+            List<Map<String, String>> translations = (List<Map<String, String>>) response.getBody().get("translations");
+
+            for (int i = 0; i < segments.size(); i++) { // 응답은 요청한 text 순서와 같다
+                String translated = i < translations.size() ? translations.get(i).get("text") : null;
+                segments.get(i).result().complete(Optional.ofNullable(translated));
+            }
+        } catch (CircuitOpenException e) { // DeepL 장애 중. 한도 초과와 같이 미룬다
+            error(pair, "circuit_open");
+            failAll(segments, new TranslationQuotaException("translation api circuit open", e));
+        } catch (HttpClientErrorException e) {
+            int status = e.getStatusCode().value();
+            error(pair, String.valueOf(status));
+            if (status == 429 || status == 456) { // 429: 요청 과다, 456: 월 사용량 초과
+                log.warn("translation api rejected with {} ({} -> {}, {} texts)", status, pair.source(), pair.target(), segments.size());
+                failAll(segments, new TranslationQuotaException("translation api returned " + status, e));
+                return;
+            }
+            log.warn("translation batch failed ({} -> {}, {} texts)", pair.source(), pair.target(), segments.size(), e);
+            segments.forEach(segment -> segment.result().complete(Optional.empty()));
+        } catch (Exception e) {
+            error(pair, errorCode(e));
+            log.warn("translation batch failed ({} -> {}, {} texts)", pair.source(), pair.target(), segments.size(), e);
+            segments.forEach(segment -> segment.result().complete(Optional.empty()));
+        }
+    }
+
+    private void error(LanguagePair pair, String code) {
+        meterRegistry.counter("translation.api.errors", "target", pair.target(), "code", code).increment();
+    }
+
+    private static String errorCode(Exception e) { // 5xx 는 상태 코드, 연결/타임아웃은 io
+        if (e instanceof HttpStatusCodeException statusError) return String.valueOf(statusError.getStatusCode().value());
+        if (e instanceof ResourceAccessException) return "io";
+        return e.getClass().getSimpleName();
+    }
+
+    private static void failAll(List<Segment> segments, RuntimeException e) {
+        segments.forEach(segment -> segment.result().completeExceptionally(e));
+    }
+
+    @PreDestroy
+    public void shutdown() { // 대기 중인 묶음은 바로 보낸다
+        List<Map.Entry<LanguagePair, Batch>> remaining;
+        synchronized (batches) {
+            remaining = new ArrayList<>(batches.entrySet());
+            batches.clear();
+        }
+        remaining.forEach(entry -> dispatch(entry.getKey(), entry.getValue()));
+        timer.shutdownNow();
+    }
+}
@@ -0,0 +1,197 @@
+package com.debate.service;
+
+import com.debate.repository.TranslationMemoryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 번역 메모리. (원문 언어, 대상 언어, SHA-256(원문)) -> 번역문을 translation_memory 에 저장하고 앞단에 LRU 를 둔다.
+ * 새 글은 원문 전체, 수정은 문장 단위(SentenceSegmenter)로 저장되므로 "동의합니다" 같은 짧은 댓글이나
+ * 수정에서 바뀌지 않은 문장은 번역 API 를 다시 부르지 않는다.
+ * store 는 LRU 에 바로 넣고 DB 저장은 모아 두었다가 flush-interval-ms 마다 배치 upsert 한다
+ * (번역 요청 스레드가 DB 쓰기를 기다리지 않도록). max-age 보다 오래된 항목은 purge-cron 에 지운다.
+ * 지표: translation.memory.lookups{result=cache|db|miss}, translation.memory.api.calls.saved,
+ *       translation.memory.hit.ratio, cache.* (name=translationMemory)
+ */
+@Slf4j
+@Service
+public class TranslationMemoryService {
+    private static final String UPSERT_SQL =
+            "INSERT INTO translation_memory (source_lang, target_lang, text_hash, translated_text, created_at) " +
+            "VALUES (?, ?, ?, ?, ?) ON DUPLICATE KEY UPDATE translated_text = ?, created_at = ?";
+
+    private record Key(String source, String target, String hash) {
+    }
+
+    private final TranslationMemoryRepository translationMemoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Key, String> pending = new ConcurrentHashMap<>(); // 아직 DB 에 없는 번역
+    private final Cache<String, String> lru;
+    private final Duration maxAge;
+
+    private final Counter cacheHits;
+    private final Counter dbHits;
+    private final Counter misses;
+    private final Counter apiCallsSaved;
+
+    public TranslationMemoryService(TranslationMemoryRepository translationMemoryRepository,
+                                    JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${translation-memory.cache-size}") long cacheSize,
+                                    @Value("${translation-memory.max-age}") Duration maxAge) {
+        this.translationMemoryRepository = translationMemoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAge = maxAge;
+        this.lru = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(maxAge)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lru, "translationMemory");
+
+        this.cacheHits = Counter.builder("translation.memory.lookups").tag("result", "cache").register(meterRegistry);
+        this.dbHits = Counter.builder("translation.memory.lookups").tag("result", "db").register(meterRegistry);
+        this.misses = Counter.builder("translation.memory.lookups").tag("result", "miss").register(meterRegistry);
+        this.apiCallsSaved = Counter.builder("translation.memory.api.calls.saved")
+                .description("번역 메모리에서 찾아서 API 로 보내지 않은 문장 수")
+                .register(meterRegistry);
+        Gauge.builder("translation.memory.hit.ratio", this, TranslationMemoryService::hitRatio).register(meterRegistry);
+    }
+
+    // 여러 원문(문장)을 한 번에. 원문 -> (대상 언어 -> 번역문), 없는 언어는 결과에 없다. DB 조회는 캐시에 없는 것들만 모아서 1회
+    public Map<String, Map<String, String>> lookupAll(String sourceLang, Collection<String> texts,
+                                                      Collection<String> targetLangs) {
+        Map<String, Map<String, String>> found = new HashMap<>();
+        if (texts.isEmpty() || targetLangs.isEmpty()) return found;
+
+        String source = sourceLang.toUpperCase();
+        Map<String, String> textByHash = new HashMap<>();
+        Set<String> missingHashes = new HashSet<>();
+        Set<String> missingTargets = new HashSet<>();
+        int hits = 0;
+        for (String text : texts) {
+            if (text == null) continue;
+            String hash = hash(text);
+            textByHash.put(hash, text);
+            for (String target : targetLangs) {
+                String cached = lru.getIfPresent(key(source, target, hash));
+                if (cached != null) {
+                    found.computeIfAbsent(text, t -> new HashMap<>()).put(target, cached);
+                    cacheHits.increment();
+                    hits++;
+                } else {
+                    missingHashes.add(hash);
+                    missingTargets.add(target.toUpperCase());
+                }
+            }
+        }
+
+        if (!missingHashes.isEmpty()) {
+            for (Object[] row : translationMemoryRepository.findTranslationsByHashes(source, missingHashes, missingTargets)) {
+                String hash = (String) row[0];
+                String target = (String) row[1];
+                String translated = (String) row[2];
+                Map<String, String> byTarget = found.computeIfAbsent(textByHash.get(hash), t -> new HashMap<>());
+                if (byTarget.putIfAbsent(target, translated) == null) {
+                    lru.put(key(source, target, hash), translated);
+                    dbHits.increment();
+                    hits++;
+                }
+            }
+        }
+        misses.increment((double) textByHash.size() * targetLangs.size() - hits);
+        apiCallsSaved.increment(hits);
+        return found;
+    }
+
+    // 번역 요청 스레드에서 불린다. 해시 계산과 메모리 쓰기만 하고 DB 저장은 flush 에 맡긴다
+    public void store(String sourceLang, String targetLang, String text, String translated) {
+        if (text == null || translated == null) return;
+        String source = sourceLang.toUpperCase();
+        String target = targetLang.toUpperCase();
+        String hash = hash(text);
+        lru.put(key(source, target, hash), translated);
+        pending.put(new Key(source, target, hash), translated);
+    }
+
+    @Scheduled(fixedDelayString = "${translation-memory.flush-interval-ms}")
+    public void flush() {
+        List<Key> keys = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Key key : pending.keySet()) {
+            String translated = pending.remove(key);
+            if (translated == null) continue;
+            keys.add(key);
+            rows.add(new Object[]{key.source(), key.target(), key.hash(), translated, now, translated, now});
+        }
+        if (rows.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPSERT_SQL, rows));
+        } catch (Exception e) { // 저장 실패는 번역 결과에 영향을 주지 않는다. 다음 주기에 다시 시도
+            log.warn("translation memory flush failed, re-queueing {} rows", rows.size(), e);
+            for (int i = 0; i < keys.size(); i++) {
+                pending.putIfAbsent(keys.get(i), (String) rows.get(i)[3]); // 그 사이 새로 저장된 번역이 우선
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public double hitRatio() {
+        double hits = cacheHits.count() + dbHits.count();
+        double total = hits + misses.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    @Scheduled(cron = "${translation-memory.purge-cron}")
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(maxAge);
+        try {
+            Integer deleted = transactionTemplate.execute(status -> translationMemoryRepository.deleteOlderThan(cutoff));
+            log.info("translation memory purged. deleted={}, hitRatio={}, apiCallsSaved={}",
+                    deleted, String.format("%.3f", hitRatio()), (long) apiCallsSaved.count());
+        } catch (Exception e) {
+            log.warn("translation memory purge failed", e);
+        }
+    }
+
+    private static String key(String source, String target, String hash) {
+        return source + ":" + target.toUpperCase() + ":" + hash;
+    }
+
+    static String hash(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
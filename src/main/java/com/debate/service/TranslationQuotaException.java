@@ -0,0 +1,19 @@
+package com.debate.service;
+
+// 번역 API 를 지금 쓸 수 없음 (로컬 토큰 버킷, DeepL 429/456, 차단기 열림). 글 문제가 아니므로 삭제하지 않고 나중에 다시 시도한다
+public class TranslationQuotaException extends RuntimeException {
+    public TranslationQuotaException(String message) {
+        super(message);
+    }
+
+    public TranslationQuotaException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    public static boolean isCause(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof TranslationQuotaException) return true;
+        }
+        return false;
+    }
+}
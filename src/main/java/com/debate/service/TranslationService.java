@@ -10,42 +10,86 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import util.SentenceSegmenter;
+import util.SentenceSegmenter.Segment;
 import util.TranslationJob;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class TranslationService {
-    @Value("${translation.api-key}")
-    private String apiKey;
-
     private final TranslatedCommentRepository translatedCommentRepository;
     private final TranslatedReplyRepository translatedReplyRepository;
     private final TranslatedDebateRepository translatedDebateRepository;
 
-    private final DebateRepository debateRepository;
-    private final CommentRepository commentRepository;
-    private final ReplyRepository replyRepository;
-
     private final KafkaTemplate<String, String> kafkaTemplate;
-
-    private static final String API_URL = "https://api-free.deepl.com/v2/translate";
+    private final DebateSearchIndex debateSearchIndex;
+    private final DebateAutocomplete debateAutocomplete;
+    private final TodaySnapshot todaySnapshot;
+    private final DebateRecommendationPool debateRecommendationPool;
+    private final TranslationBatcher translationBatcher;
+    private final TranslationMemoryService translationMemoryService;
 
     private final String[] targetLanguage = {"KO", "EN", "JA", "ZH", "DE", "FR", "ES", "RU"};
 
+    // eager: 작성 시 모든 언어로 번역, lazy: 작성 언어만 저장하고 나머지는 처음 읽을 때 번역 (LazyTranslator)
+    // 토론은 언어별 검색 색인/자동완성/목록이 모든 언어 번역을 전제로 하므로 항상 eager
+    @Value("${translation.mode.comment}")
+    private String commentMode;
+
+    @Value("${translation.mode.reply}")
+    private String replyMode;
+
+    public boolean isLazy(String aggregateType) {
+        return switch (aggregateType) {
+            case "comment" -> "lazy".equalsIgnoreCase(commentMode);
+            case "reply" -> "lazy".equalsIgnoreCase(replyMode);
+            default -> false;
+        };
+    }
+
+    // 지연 모드 작성/수정: 원문만 저장하고, 수정이면 이전 내용의 번역을 지워서 다음 조회 때 다시 번역되게 한다
+    public void storeSource(TranslationJob job) {
+        if (job.getEntity() instanceof Comment comment) {
+            CommentReqDto dto = (CommentReqDto) job.getDto();
+            TranslatedComment source = Optional.ofNullable(
+                    translatedCommentRepository.findByComment_CommentIdAndLanguage(comment.getCommentId(), dto.getLanguage()))
+                    .orElseGet(TranslatedComment::new);
+            source.setComment(comment);
+            source.setLanguage(dto.getLanguage());
+            source.setContent(dto.getContent());
+            translatedCommentRepository.save(source);
+            if (job.getOptionalId() != null) {
+                translatedCommentRepository.deleteOtherLanguages(comment.getCommentId(), dto.getLanguage());
+            }
+        } else if (job.getEntity() instanceof Reply reply) {
+            ReplyReqDto dto = (ReplyReqDto) job.getDto();
+            TranslatedReply source = Optional.ofNullable(
+                    translatedReplyRepository.findByReply_ReplyIdAndLanguage(reply.getReplyId(), dto.getLanguage()))
+                    .orElseGet(TranslatedReply::new);
+            source.setReply(reply);
+            source.setLanguage(dto.getLanguage());
+            source.setContent(dto.getContent());
+            translatedReplyRepository.save(source);
+            if (job.getOptionalId() != null) {
+                translatedReplyRepository.deleteOtherLanguages(reply.getReplyId(), dto.getLanguage());
+            }
+        } else {
+            throw new IllegalArgumentException("lazy translation is not supported for " + job.key());
+        }
+    }
+
     public void handleJob(TranslationJob job){ // 맞는 번역 매서드 실행
         if (job.getEntity() instanceof Debate) {
             translateDebate((Debate) job.getEntity(), (DebateReqDto) job.getDto(), job.getOptionalId());
@@ -56,37 +100,32 @@ public class TranslationService {
         }
     }
 
-    public Optional<String> translate(String text, String sourceLang, String targetLang) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-
-        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-        body.add("auth_key", apiKey);
-        body.add("text", text);
-        body.add("source_lang", sourceLang.toUpperCase());
-        body.add("target_lang", targetLang.toUpperCase());
+    // 재시도를 모두 소진한 작업. 글은 지우지 않고(FAILED 작업을 다시 돌리면 번역된다) 작성자에게 알린다
+    public void notifyFailure(TranslationJob job) {
+        if (job.getOptionalId() != null) return; // 수정 실패는 기존 번역을 그대로 둔다
 
-        HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(body, headers);
-
-        try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(API_URL, request, Map.class);
-            Map<String, Object> result = response.getBody();
-
-            List<Map<String, String>> translations = (List<Map<String, String>>) result.get("translations");
-            return Optional.of(translations.get(0).get("text"));
-        } catch (Exception e) {
-            e.printStackTrace();
-            return Optional.empty();
+        if (job.getEntity() instanceof Comment comment) {
+            kafkaTemplate.send("failComment", String.valueOf(comment.getUser().getUserId()));
+        } else if (job.getEntity() instanceof Reply reply) {
+            kafkaTemplate.send("failComment", String.valueOf(reply.getUser().getUserId()));
         }
+        // 토론은 작성자가 따로 없다 (관리자 등록). FAILED 작업과 로그로 확인
+    }
+
+    public Optional<String> translate(String text, String sourceLang, String targetLang) {
+        return translationBatcher.submit(text, sourceLang, targetLang).join();
     }
 
     public void translateDebate(Debate debate, DebateReqDto debateReqDto, Long debateId) {
+        // KO 원문을 제외한 언어를 제목/내용 모두 병렬로 요청
+        Map<String, CompletableFuture<Optional<String>>> titles = translateAll(debateReqDto.getTitle(), "KO");
+        Map<String, CompletableFuture<Optional<String>>> contents = translateAll(debateReqDto.getContent(), "KO");
+
         for (String language : targetLanguage) { // 9개 언어로 번역해서 저장
-            TranslatedDebate translatedDebate = (debateId == null)
-                    ? new TranslatedDebate()
-                    : translatedDebateRepository.findByDebate_DebateIdAndLanguage(debate.getDebateId(), language);
+            // 재시도일 수 있으므로 작성이어도 이미 저장된 행이 있으면 덮어쓴다
+            TranslatedDebate translatedDebate = Optional.ofNullable(
+                    translatedDebateRepository.findByDebate_DebateIdAndLanguage(debate.getDebateId(), language))
+                    .orElseGet(TranslatedDebate::new);
 
             translatedDebate.setDebate(debate);
             translatedDebate.setLanguage(language);
@@ -95,31 +134,38 @@ public class TranslationService {
                 translatedDebate.setContent(debateReqDto.getContent());
                 translatedDebate.setTitle(debateReqDto.getTitle());
                 translatedDebateRepository.save(translatedDebate);
+                debateSearchIndex.index(translatedDebate);
+                debateAutocomplete.add(translatedDebate);
+                debateRecommendationPool.add(translatedDebate);
                 continue;
             }
 
-            Optional<String> translatedTitle = translate(
-                    debateReqDto.getTitle() , "KO", language);
+            Optional<String> translatedTitle = titles.get(language).join();
 
-            Optional<String> translatedContent = translate(
-                    debateReqDto.getContent() , "KO", language);
+            Optional<String> translatedContent = contents.get(language).join();
 
-            if (translatedTitle.isEmpty() || translatedContent.isEmpty()) {
-                debateRepository.delete(debate);
-                break;
+            if (translatedTitle.isEmpty() || translatedContent.isEmpty()) { // TranslationJobConsumer 가 재시도
+                throw new IllegalStateException("debate translation failed: " + debate.getDebateId() + " " + language);
             }
 
             translatedDebate.setContent(translatedContent.get());
             translatedDebate.setTitle(translatedTitle.get());
             translatedDebateRepository.save(translatedDebate);
+            debateSearchIndex.index(translatedDebate);
+            debateAutocomplete.add(translatedDebate);
+            debateRecommendationPool.add(translatedDebate);
         }
+        todaySnapshot.requestRefresh(); // 새 토론 / 수정된 제목을 홈 화면에 바로 반영
     }
 
     public void translateComment(Comment comment, CommentReqDto commentReqDto, Long commentId){
+        Map<String, CompletableFuture<Optional<String>>> contents =
+                translateAll(commentReqDto.getContent(), commentReqDto.getLanguage());
+
         for (String language : targetLanguage) { // 9개 언어로 번역해서 저장
-            TranslatedComment translatedComment = (commentId == null)
-                    ? new TranslatedComment()
-                    : translatedCommentRepository.findByComment_CommentIdAndLanguage(comment.getCommentId(), language);
+            TranslatedComment translatedComment = Optional.ofNullable(
+                    translatedCommentRepository.findByComment_CommentIdAndLanguage(comment.getCommentId(), language))
+                    .orElseGet(TranslatedComment::new);
 
             translatedComment.setComment(comment);
             translatedComment.setLanguage(language);
@@ -130,14 +176,11 @@ public class TranslationService {
                 continue;
             }
 
-            Optional<String> translatedContent = translate(
-                    commentReqDto.getContent(), commentReqDto.getLanguage(), language);
+            Optional<String> translatedContent = contents.get(language).join();
 
 
             if (translatedContent.isEmpty()) {
-                kafkaTemplate.send("failComment", String.valueOf(comment.getUser().getUserId()));
-                commentRepository.delete(comment);
-                break;
+                throw new IllegalStateException("comment translation failed: " + comment.getCommentId() + " " + language);
             }
 
             translatedComment.setContent(translatedContent.get());
@@ -146,10 +189,13 @@ public class TranslationService {
     }
 
     public void translateReply(Reply reply, ReplyReqDto replyReqDto, Long replyId) {
+        Map<String, CompletableFuture<Optional<String>>> contents =
+                translateAll(replyReqDto.getContent(), replyReqDto.getLanguage());
+
         for (String language : targetLanguage) { // 9개 언어로 번역해서 저장
-            TranslatedReply translatedReply = (replyId == null)
-                    ? new TranslatedReply()
-                    : translatedReplyRepository.findByReply_ReplyIdAndLanguage(replyId, language);
+            TranslatedReply translatedReply = Optional.ofNullable(
+                    translatedReplyRepository.findByReply_ReplyIdAndLanguage(reply.getReplyId(), language))
+                    .orElseGet(TranslatedReply::new);
 
             translatedReply.setLanguage(language);
             translatedReply.setReply(reply);
@@ -160,13 +206,10 @@ public class TranslationService {
                 continue;
             }
 
-            Optional<String> translatedContent = translate(
-                    replyReqDto.getContent(), replyReqDto.getLanguage(), language);
+            Optional<String> translatedContent = contents.get(language).join();
 
             if (translatedContent.isEmpty()){
-                kafkaTemplate.send("failComment", String.valueOf(reply.getUser().getUserId()));
-                replyRepository.delete(reply);
-                break;
+                throw new IllegalStateException("reply translation failed: " + reply.getReplyId() + " " + language);
             }
 
             translatedReply.setContent(translatedContent.get());
@@ -174,4 +217,72 @@ public class TranslationService {
         }
     }
 
+    // 원문 언어를 제외한 모든 대상 언어 번역을 한꺼번에 요청 (언어쌍별로 TranslationBatcher 가 묶어서 전송)
+    private Map<String, CompletableFuture<Optional<String>>> translateAll(String text, String sourceLang) {
+        List<String> targets = new ArrayList<>();
+        for (String language : targetLanguage) {
+            if (!language.equalsIgnoreCase(sourceLang)) targets.add(language);
+        }
+        return translateSegments(text, sourceLang, targets);
+    }
+
+    // 한 언어만 번역 (지연 번역)
+    public CompletableFuture<Optional<String>> translateAsync(String text, String sourceLang, String targetLang) {
+        return translateSegments(text, sourceLang, List.of(targetLang)).get(targetLang);
+    }
+
+    // 문장 단위로 나눠서 번역 메모리에 있는 문장은 그대로 쓰고 없는 문장만 API 로 보낸 뒤 원래 순서대로 이어 붙인다.
+    // 새 글도 문장 단위로 번역해서 메모리에 남기므로 첫 수정부터 고친 문장만 번역된다. 한 언어의 문장들은
+    // TranslationBatcher 가 /v2/translate 한 번(max-texts 까지)으로 묶으므로 요청 수는 늘지 않는다. 한 문장이라도 실패하면 그 언어는 실패
+    private Map<String, CompletableFuture<Optional<String>>> translateSegments(String text, String sourceLang,
+                                                                               List<String> targets) {
+        Map<String, CompletableFuture<Optional<String>>> futures = new HashMap<>();
+        if (text == null || text.isBlank()) {
+            for (String language : targets) {
+                futures.put(language, CompletableFuture.completedFuture(Optional.ofNullable(text)));
+            }
+            return futures;
+        }
+
+        List<Segment> segments = SentenceSegmenter.split(text, sourceLang);
+        Set<String> sentences = new LinkedHashSet<>();
+        for (Segment segment : segments) {
+            if (!segment.isBlank()) sentences.add(segment.sentence());
+        }
+        Map<String, Map<String, String>> remembered = translationMemoryService.lookupAll(sourceLang, sentences, targets);
+
+        for (String language : targets) {
+            Map<String, CompletableFuture<Optional<String>>> bySentence = new HashMap<>();
+            for (String sentence : sentences) {
+                String translated = remembered.getOrDefault(sentence, Map.of()).get(language);
+                bySentence.put(sentence, translated != null
+                        ? CompletableFuture.completedFuture(Optional.of(translated))
+                        : submitAndRemember(sentence, sourceLang, language));
+            }
+            futures.put(language, CompletableFuture.allOf(bySentence.values().toArray(new CompletableFuture[0]))
+                    .thenApply(done -> {
+                        List<String> translated = new ArrayList<>();
+                        for (Segment segment : segments) {
+                            if (segment.isBlank()) {
+                                translated.add(null);
+                                continue;
+                            }
+                            Optional<String> result = bySentence.get(segment.sentence()).join();
+                            if (result.isEmpty()) return Optional.<String>empty();
+                            translated.add(result.get());
+                        }
+                        return Optional.of(SentenceSegmenter.join(segments, translated));
+                    }));
+        }
+        return futures;
+    }
+
+    private CompletableFuture<Optional<String>> submitAndRemember(String text, String sourceLang, String targetLang) {
+        return translationBatcher.submit(text, sourceLang, targetLang)
+                .thenApply(result -> {
+                    result.ifPresent(translated -> translationMemoryService.store(sourceLang, targetLang, text, translated));
+                    return result;
+                });
+    }
+
 }
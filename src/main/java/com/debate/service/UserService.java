@@ -9,12 +9,14 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
+import util.PrincipalResolver;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final PrincipalResolver principalResolver;
 
     @KafkaListener(topics="updateUser", groupId = "eum-debate")
     public void updateUser(String message){
@@ -32,6 +34,7 @@ public class UserService {
         user.setRole(kafkaUserDto.getRole());
         user.setAddress(kafkaUserDto.getAddress());
         userRepository.save(user);
+        principalResolver.put(user);
     }
 
     @KafkaListener(topics="updateLanguage", groupId = "eum-debate")
@@ -46,6 +49,7 @@ public class UserService {
         User user = userRepository.findById(kafkaUserDto.getUserId()).get();
         user.setLanguage(kafkaUserDto.getLanguage());
         userRepository.save(user);
+        principalResolver.put(user);
     }
 
     @KafkaListener(topics="createUser", groupId = "eum-debate")
@@ -67,6 +71,7 @@ public class UserService {
         user.setAddress(kafkaUserDto.getAddress());
         user.setBan(0);
         userRepository.save(user);
+        principalResolver.put(user);
     }
 
     @Transactional
@@ -81,6 +86,7 @@ public class UserService {
         }
         User user = userRepository.findById(kafkaUserDto.getUserId()).get();
         userRepository.delete(user);
+        principalResolver.evict(kafkaUserDto.getUserId());
     }
 
     @KafkaListener(topics="deactivate", groupId = "eum-debate")
@@ -95,5 +101,6 @@ public class UserService {
         User user = userRepository.findById(kafkaBanDto.getUserId()).get();
         user.setBan(kafkaBanDto.getDeactivate());
         userRepository.save(user);
+        principalResolver.put(user);
     }
 }
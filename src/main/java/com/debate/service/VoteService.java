@@ -6,9 +6,10 @@ import com.debate.entity.Debate;
 import com.debate.entity.User;
 import com.debate.entity.Vote;
 import com.debate.repository.DebateRepository;
-import com.debate.repository.UserRepository;
 import com.debate.repository.VoteRepository;
-import util.JwtUtil;
+import util.CounterBuffer;
+import util.CounterBuffer.Counter;
+import util.PrincipalResolver;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -21,22 +22,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class VoteService {
     private final VoteRepository voteRepository;
-    private final UserRepository userRepository;
     private final DebateRepository debateRepository;
+    private final VoteStatService voteStatService;
+    private final CounterBuffer counterBuffer;
 
-    private final JwtUtil jwtUtil;
+    private final PrincipalResolver principalResolver;
 
     private Optional<User> verifyToken(String token) {    // 토큰 검증 함수
-        try {
-            long userId = jwtUtil.getUserId(token);
-            User user = userRepository.findById(userId).orElse(null);
-            if(user == null) {
-                return Optional.empty();
-            }
-            return Optional.of(user);
-        } catch (Exception e) {
-            return Optional.empty();
-        }
+        return principalResolver.resolve(token);
     }
 
     private static Map<String, Double> calculateVotePercent(Long agreeCnt, Long disagreeCnt) {
@@ -55,16 +48,12 @@ public class VoteService {
         return result;
     }
 
-    private static Map<String, Double> calculateNationPercent(List<Vote> voteList) {
-        Map<String, Long> nationCount = new HashMap<>();
-
-        for (Vote v : voteList) {
-            String nation = v.getUser().getNation();
-            nationCount.put(nation, nationCount.getOrDefault(nation, 0L) + 1);
-        }
-
-        long totalVotes = voteList.size();
+    private static Map<String, Double> calculateNationPercent(Map<String, Long> nationCount) {
+        long totalVotes = nationCount.values().stream().mapToLong(Long::longValue).sum();
         Map<String, Double> nationPercent = new HashMap<>();
+        if (totalVotes == 0) {
+            return nationPercent;
+        }
 
         for (Map.Entry<String, Long> entry : nationCount.entrySet()) {
             double percent = (double) entry.getValue() * 100 / totalVotes;
@@ -101,68 +90,56 @@ public class VoteService {
                     .debate(debate)
                     .user(user.get())
                     .option(voteReqDto.getOption())
+                    .nation(user.get().getNation())
                     .build();
             voteRepository.save(vote);
+            voteStatService.addVote(debate.getDebateId(), vote.getNation(), vote.getOption(), 1);
 
-            debate.setVoteCnt(debate.getVoteCnt() + 1);
-
-            if(voteReqDto.getOption().equals("찬성")){
-                debate.setAgreeCnt(debate.getAgreeCnt() + 1);
-            }
-            else{
-                debate.setDisagreeCnt(debate.getDisagreeCnt() + 1);
-            }
-            debateRepository.save(debate);
+            addVoteCount(debate.getDebateId(), voteReqDto.getOption(), 1);
 
         }else{
             if(vote.getOption().equals(voteReqDto.getOption())){
-                debate.setVoteCnt(debate.getVoteCnt() - 1);
-                if(voteReqDto.getOption().equals("찬성")){
-                    debate.setAgreeCnt(debate.getAgreeCnt() - 1);
-                }
-                else{
-                    debate.setDisagreeCnt(debate.getDisagreeCnt() - 1);
-                }
-                debateRepository.save(debate);
+                addVoteCount(debate.getDebateId(), voteReqDto.getOption(), -1);
                 voteRepository.delete(vote);
+                voteStatService.addVote(debate.getDebateId(), vote.getNation(), vote.getOption(), -1);
             }
             else {
                 return ResponseEntity.badRequest().body("찬성과 반대 중 택 1");
             }
         }
 
-        Map<String, Double> percentMap =
-                calculateVotePercent(debate.getAgreeCnt(), debate.getDisagreeCnt());
-
-        List<Vote> voteList = voteRepository.findByDebate_DebateId(debate.getDebateId());
-
-        Map<String, Double> nationPercent = calculateNationPercent(voteList);
-
-        VoteResDto voteResDto = VoteResDto.builder()
-                .voteCnt(voteList.size())
-                .agreePercent(percentMap.get("agreePercent"))
-                .disagreePercent(percentMap.get("disagreePercent"))
-                .nationPercent(nationPercent)
-                .build();
-        return ResponseEntity.ok(voteResDto);
+        return ResponseEntity.ok(toVoteResDto(debate));
     }
 
     public ResponseEntity<?> getVotes(long debateId) {
         Debate debate = debateRepository.findById(debateId).get();
 
-        List<Vote> voteList = voteRepository.findByDebate_DebateId(debateId);
+        return ResponseEntity.ok(toVoteResDto(debate));
+    }
+
+    private void addVoteCount(Long debateId, String option, long delta) {
+        counterBuffer.add(Counter.DEBATE_VOTE_CNT, debateId, delta);
+        if(option.equals("찬성")){
+            counterBuffer.add(Counter.DEBATE_AGREE_CNT, debateId, delta);
+        }
+        else{
+            counterBuffer.add(Counter.DEBATE_DISAGREE_CNT, debateId, delta);
+        }
+    }
 
-        Map<String, Double> percentMap =
-                calculateVotePercent(debate.getAgreeCnt(), debate.getDisagreeCnt());
+    private VoteResDto toVoteResDto(Debate debate) {
+        Long debateId = debate.getDebateId();
+        Map<String, Double> percentMap = calculateVotePercent(
+                counterBuffer.get(Counter.DEBATE_AGREE_CNT, debateId, debate.getAgreeCnt()),
+                counterBuffer.get(Counter.DEBATE_DISAGREE_CNT, debateId, debate.getDisagreeCnt()));
 
-        Map<String, Double> nationPercent = calculateNationPercent(voteList);
+        Map<String, Double> nationPercent = calculateNationPercent(voteStatService.getNationCounts(debateId));
 
-        VoteResDto voteResDto = VoteResDto.builder()
-                .voteCnt(voteList.size())
+        return VoteResDto.builder()
+                .voteCnt(counterBuffer.get(Counter.DEBATE_VOTE_CNT, debateId, debate.getVoteCnt()))
                 .agreePercent(percentMap.get("agreePercent"))
                 .disagreePercent(percentMap.get("disagreePercent"))
                 .nationPercent(nationPercent)
                 .build();
-        return ResponseEntity.ok(voteResDto);
     }
 }
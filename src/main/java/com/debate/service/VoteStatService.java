@@ -0,0 +1,72 @@
+package com.debate.service;
+
+import com.debate.repository.DebateRepository;
+import com.debate.repository.NationVoteStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * 토론별 국가 투표 히스토그램(nation_vote_stat).
+ * reactToVote 에서 vote 에 저장된 투표 당시 국가 기준으로 증감하고, 조회는 투표 수가 아니라 국가 수만큼의 행만 읽는다.
+ * 기존 데이터는 V8 마이그레이션이 채우고, 회원 삭제 등으로 생기는 오차는 야간 재집계로 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VoteStatService {
+    private final NationVoteStatRepository nationVoteStatRepository;
+    private final DebateRepository debateRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 호출하는 쪽 트랜잭션(투표 저장/삭제)과 함께 커밋된다
+    public void addVote(Long debateId, String nation, String option, long delta) {
+        nationVoteStatRepository.addCount(debateId, nation, option, delta);
+    }
+
+    public Map<String, Long> getNationCounts(Long debateId) {
+        Map<String, Long> nationCount = new HashMap<>();
+        for (Object[] row : nationVoteStatRepository.sumByNation(debateId)) {
+            nationCount.put((String) row[0], (Long) row[1]);
+        }
+        return nationCount;
+    }
+
+    public Map<Long, String> getTopNations(Collection<Long> debateIds) { // 토론별 최다 투표 국가
+        Map<Long, String> topNation = new HashMap<>();
+        Map<Long, Long> topCount = new HashMap<>();
+        for (Object[] row : nationVoteStatRepository.sumByNationIn(debateIds)) {
+            Long debateId = (Long) row[0];
+            long count = (Long) row[2];
+            if (count > topCount.getOrDefault(debateId, 0L)) {
+                topCount.put(debateId, count);
+                topNation.put(debateId, (String) row[1]);
+            }
+        }
+        return topNation;
+    }
+
+    public void rebuild(Long debateId) {    // vote 테이블 기준으로 다시 계산
+        transactionTemplate.executeWithoutResult(status -> {
+            nationVoteStatRepository.deleteByDebateId(debateId);
+            nationVoteStatRepository.recountFromVotes(debateId);
+        });
+    }
+
+    @Scheduled(cron = "${vote-stat.rebuild-cron}")
+    public void rebuildAll() {
+        List<Long> debateIds = debateRepository.findAllDebateIds();
+        for (Long debateId : debateIds) {
+            try {
+                rebuild(debateId);
+            } catch (Exception e) {
+                log.warn("nation_vote_stat rebuild failed. debateId={}", debateId, e);
+            }
+        }
+        log.info("nation_vote_stat rebuilt for {} debates", debateIds.size());
+    }
+}
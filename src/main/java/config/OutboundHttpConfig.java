@@ -0,0 +1,119 @@
+package config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+import util.CircuitBreaker;
+import util.CircuitBreakerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * 외부 호출(DeepL, AI 서버)용 RestTemplate.
+ * 업스트림마다 keep-alive 커넥션 풀을 따로 두어 한쪽이 느려져도 다른 쪽 커넥션을 잡아먹지 않고,
+ * 연결/응답/풀 대기 시간 상한과 차단기를 건다.
+ * RestTemplateBuilder 로 만들어서 http.client.requests 지표(client.name = 호스트)가 붙고, 히스토그램은 yml 에서 켠다.
+ * 지표: http.client.requests, outbound.circuit.state{upstream} (0 닫힘, 1 열림, 2 시험 중)
+ */
+@Configuration
+public class OutboundHttpConfig {
+    @Bean
+    public CloseableHttpClient translationHttpClient(@Value("${outbound.translation.connect-timeout}") Duration connectTimeout,
+                                                     @Value("${outbound.translation.read-timeout}") Duration readTimeout,
+                                                     @Value("${outbound.translation.max-connections}") int maxConnections,
+                                                     @Value("${outbound.keep-alive}") Duration keepAlive) {
+        return httpClient(connectTimeout, readTimeout, maxConnections, keepAlive);
+    }
+
+    @Bean
+    public RestTemplate translationRestTemplate(RestTemplateBuilder builder, MeterRegistry meterRegistry,
+                                                @Qualifier("translationHttpClient") CloseableHttpClient httpClient,
+                                                @Value("${outbound.translation.breaker.window}") int window,
+                                                @Value("${outbound.translation.breaker.minimum-calls}") int minimumCalls,
+                                                @Value("${outbound.translation.breaker.failure-rate}") double failureRate,
+                                                @Value("${outbound.translation.breaker.open-duration}") Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker("translation", window, minimumCalls, failureRate, openDuration.toNanos());
+        return restTemplate(builder, meterRegistry, httpClient, breaker);
+    }
+
+    @Bean
+    public CloseableHttpClient aiHttpClient(@Value("${outbound.ai.connect-timeout}") Duration connectTimeout,
+                                            @Value("${outbound.ai.read-timeout}") Duration readTimeout,
+                                            @Value("${outbound.ai.max-connections}") int maxConnections,
+                                            @Value("${outbound.keep-alive}") Duration keepAlive) {
+        return httpClient(connectTimeout, readTimeout, maxConnections, keepAlive);
+    }
+
+    @Bean
+    public RestTemplate aiRestTemplate(RestTemplateBuilder builder, MeterRegistry meterRegistry,
+                                       @Qualifier("aiHttpClient") CloseableHttpClient httpClient,
+                                       @Value("${outbound.ai.breaker.window}") int window,
+                                       @Value("${outbound.ai.breaker.minimum-calls}") int minimumCalls,
+                                       @Value("${outbound.ai.breaker.failure-rate}") double failureRate,
+                                       @Value("${outbound.ai.breaker.open-duration}") Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker("ai", window, minimumCalls, failureRate, openDuration.toNanos());
+        return restTemplate(builder, meterRegistry, httpClient, breaker);
+    }
+
+    // AI 서버 호출을 요청 스레드에서 떼어 낸다 (PreferenceCache). 큐가 차면 거절되고 호출 쪽은 대체 응답을 준다
+    @Bean
+    public ThreadPoolTaskExecutor aiRequestExecutor(@Value("${outbound.ai.max-connections}") int maxConnections,
+                                                    @Value("${outbound.ai.queue-capacity}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConnections);
+        executor.setMaxPoolSize(maxConnections);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-request-");
+        executor.initialize();
+        return executor;
+    }
+
+    public static CloseableHttpClient httpClient(Duration connectTimeout, Duration readTimeout, int maxConnections,
+                                                 Duration keepAlive) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // 업스트림 하나당 풀 하나
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis()))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(5))
+                        .build())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis())) // 풀이 비기를 기다리는 시간
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout.toMillis()))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(keepAlive.toMillis()))
+                .build();
+    }
+
+    public static RestTemplate restTemplate(RestTemplateBuilder builder, MeterRegistry meterRegistry,
+                                            CloseableHttpClient httpClient, CircuitBreaker breaker) {
+        Gauge.builder("outbound.circuit.state", breaker, b -> b.state().ordinal())
+                .tag("upstream", breaker.name())
+                .register(meterRegistry);
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .additionalInterceptors(new CircuitBreakerInterceptor(breaker))
+                .build();
+    }
+}
@@ -0,0 +1,115 @@
+package config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import util.TranslationQueue;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/translation. 번역 파이프라인 지표를 한 화면으로 모아서 보여준다 (노드 단위).
+ * 값은 TranslationQueue, TranslationJobConsumer, TranslationBatcher, TranslationMemoryService 가 등록한 미터에서 읽는다.
+ * 알림/대시보드는 /actuator/metrics 쪽 원본 미터를 쓰고, 이 엔드포인트는 백로그 확인과 workers 조정용.
+ * POST 는 FAILED 작업을 다시 대기열에 넣는다 (outboxId 가 없으면 전부).
+ */
+@Component
+@Endpoint(id = "translation")
+@RequiredArgsConstructor
+public class TranslationEndpoint {
+    private final MeterRegistry meterRegistry;
+    private final TranslationQueue translationQueue;
+
+    @ReadOperation
+    public Map<String, Object> pipeline() {
+        Map<String, Object> result = new TreeMap<>();
+        result.put("queue", queue());
+        result.put("workers", Map.of(
+                "busy", gauge("translation.workers.busy"),
+                "utilization", gauge("translation.workers.utilization"),
+                "requestsActive", gauge("translation.requests.active"),
+                "requestsQueued", gauge("translation.requests.queued")));
+        result.put("jobs", jobs());
+        result.put("api", api());
+        result.put("memoryHitRatio", gauge("translation.memory.hit.ratio"));
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> requeueFailed(@Nullable Long outboxId) {
+        return Map.of("requeued", translationQueue.requeueFailed(outboxId));
+    }
+
+    // type -> pending/processing/failed 작업 수, 가장 오래 기다린 작업(초), 대기/완료 시간
+    private Map<String, Map<String, Object>> queue() {
+        Map<String, Map<String, Object>> byType = new TreeMap<>();
+        for (Gauge gauge : meterRegistry.find("translation.jobs.depth").gauges()) {
+            byType.computeIfAbsent(gauge.getId().getTag("type"), t -> new TreeMap<>())
+                    .put(gauge.getId().getTag("status"), (long) gauge.value());
+        }
+        for (Gauge gauge : meterRegistry.find("translation.jobs.oldest.age").gauges()) {
+            byType.computeIfAbsent(gauge.getId().getTag("type"), t -> new TreeMap<>())
+                    .put("oldestPendingSeconds", gauge.value());
+        }
+        for (Timer timer : meterRegistry.find("translation.jobs.queue.time").timers()) {
+            byType.computeIfAbsent(timer.getId().getTag("type"), t -> new TreeMap<>())
+                    .put("timeInQueue", summary(timer));
+        }
+        for (Timer timer : meterRegistry.find("translation.jobs.completion.time").timers()) {
+            String key = "true".equals(timer.getId().getTag("edit")) ? "timeToTranslatedEdit" : "timeToTranslated";
+            byType.computeIfAbsent(timer.getId().getTag("type"), t -> new TreeMap<>())
+                    .put(key, summary(timer));
+        }
+        return byType;
+    }
+
+    // type -> result(success/retry/deferred/failed/dropped) 누적 건수
+    private Map<String, Map<String, Object>> jobs() {
+        Map<String, Map<String, Object>> byType = new TreeMap<>();
+        for (Counter counter : meterRegistry.find("translation.jobs.processed").counters()) {
+            byType.computeIfAbsent(counter.getId().getTag("type"), t -> new TreeMap<>())
+                    .put(counter.getId().getTag("result"), (long) counter.count());
+        }
+        return byType;
+    }
+
+    // 대상 언어 -> DeepL 호출 지연, 보낸 글자 수, 오류 코드별 건수
+    private Map<String, Map<String, Object>> api() {
+        Map<String, Map<String, Object>> byTarget = new TreeMap<>();
+        for (Timer timer : meterRegistry.find("translation.api.latency").timers()) {
+            byTarget.computeIfAbsent(timer.getId().getTag("target"), t -> new TreeMap<>())
+                    .put("latency", summary(timer));
+        }
+        for (Counter counter : meterRegistry.find("translation.api.chars").counters()) {
+            byTarget.computeIfAbsent(counter.getId().getTag("target"), t -> new TreeMap<>())
+                    .put("chars", (long) counter.count());
+        }
+        for (Counter counter : meterRegistry.find("translation.api.errors").counters()) {
+            Map<String, Object> target = byTarget.computeIfAbsent(counter.getId().getTag("target"), t -> new TreeMap<>());
+            ((Map<String, Object>) target.computeIfAbsent("errors", e -> new TreeMap<String, Object>()))
+                    .put(counter.getId().getTag("code"), (long) counter.count());
+        }
+        return byTarget;
+    }
+
+    private double gauge(String name) {
+        Gauge gauge = meterRegistry.find(name).gauge();
+        return gauge == null ? 0 : gauge.value();
+    }
+
+    private static Map<String, Object> summary(Timer timer) {
+        return Map.of(
+                "count", timer.count(),
+                "meanMs", timer.mean(TimeUnit.MILLISECONDS),
+                "maxMs", timer.max(TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,22 @@
+package config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class TranslationExecutorConfig {
+    // 언어별 번역 API 호출. 풀 크기가 곧 전체 동시 요청 상한
+    @Bean
+    public ThreadPoolTaskExecutor translationRequestExecutor(@Value("${translation.max-concurrent-requests}") int maxConcurrent) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrent);
+        executor.setMaxPoolSize(maxConcurrent);
+        executor.setThreadNamePrefix("translation-request-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
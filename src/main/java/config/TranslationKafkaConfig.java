@@ -0,0 +1,18 @@
+package config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class TranslationKafkaConfig {
+    // 파티션 수가 클러스터 전체 번역 동시 처리 상한. 줄일 수는 없으므로 여유 있게 잡는다
+    @Bean
+    public NewTopic translationJobTopic(@Value("${translation.kafka.topic}") String topic,
+                                        @Value("${translation.kafka.partitions}") int partitions,
+                                        @Value("${translation.kafka.replicas}") short replicas) {
+        return TopicBuilder.name(topic).partitions(partitions).replicas(replicas).build();
+    }
+}
@@ -0,0 +1,107 @@
+package util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 외부 호출 차단기. 최근 window 개 호출 중 실패 비율이 failure-rate 이상이면 열려서 open-duration 동안 호출을 바로 거절한다.
+ * 그 뒤 한 건만 시험 호출(HALF_OPEN)해서 성공하면 닫고, 실패하면 다시 연다.
+ */
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final boolean[] outcomes; // true = 실패
+    private final int minimumCalls;
+    private final double failureRate;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int index;
+    private int calls;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(String name, int window, int minimumCalls, double failureRate, long openNanos) {
+        this(name, window, minimumCalls, failureRate, openNanos, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int window, int minimumCalls, double failureRate, long openNanos, LongSupplier nanoClock) {
+        if (window <= 0 || minimumCalls <= 0 || minimumCalls > window) {
+            throw new IllegalArgumentException("invalid circuit breaker window");
+        }
+        this.name = name;
+        this.outcomes = new boolean[window];
+        this.minimumCalls = minimumCalls;
+        this.failureRate = failureRate;
+        this.openNanos = openNanos;
+        this.nanoClock = nanoClock;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    // false 면 호출하지 말 것
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probing = false;
+        }
+        if (state == State.OPEN) return false;
+        if (state == State.HALF_OPEN) {
+            if (probing) return false;
+            probing = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && (double) failures / calls >= failureRate) {
+            open();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failed) {
+        if (calls == outcomes.length) {
+            if (outcomes[index]) failures--;
+        } else {
+            calls++;
+        }
+        outcomes[index] = failed;
+        if (failed) failures++;
+        index = (index + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+        probing = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        index = 0;
+        calls = 0;
+        failures = 0;
+        probing = false;
+    }
+}
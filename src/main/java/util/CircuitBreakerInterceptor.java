@@ -0,0 +1,37 @@
+package util;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+// RestTemplate 호출을 차단기에 기록. 연결/응답 시간 초과, 5xx 를 실패로 센다 (4xx 는 요청 문제라 성공 취급)
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new CircuitOpenException(circuitBreaker.name());
+        }
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        if (response.getStatusCode().is5xxServerError()) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        return response;
+    }
+}
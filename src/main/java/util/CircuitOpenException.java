@@ -0,0 +1,10 @@
+package util;
+
+import org.springframework.web.client.RestClientException;
+
+// 차단기가 열려 있어서 외부 호출을 보내지 않음
+public class CircuitOpenException extends RestClientException {
+    public CircuitOpenException(String upstream) {
+        super("circuit open: " + upstream);
+    }
+}
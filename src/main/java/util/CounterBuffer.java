@@ -0,0 +1,131 @@
+package util;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회수/투표수/댓글수/좋아요 등 카운터 쓰기 지연 버퍼.
+ * 엔티티를 읽어서 +1 후 save 하면 동시 요청에서 증가분이 사라지고 인기 토론 행에 락이 몰리므로,
+ * 증감분을 메모리에 모아 두었다가 주기적으로 UPDATE ... SET x = x + ? 배치로 반영한다.
+ * 키별 누적은 ConcurrentHashMap.merge(버킷 단위 락)로 처리해 flush 시 remove 와 경합해도 유실이 없다.
+ * 트랜잭션 안에서 add 한 값은 트랜잭션별로 따로 모았다가 커밋된 뒤에만 버퍼에 넣는다(롤백되면 버린다).
+ * 트랜잭션 밖에서는 바로 넣는다. 아직 반영되지 않은 값은 get() 으로 DB 값에 더해서 응답한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterBuffer {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ConcurrentHashMap<Key, Long> pending = new ConcurrentHashMap<>();
+
+    public enum Counter {
+        DEBATE_VIEWS("debate", "views", "debate_id"),
+        DEBATE_VOTE_CNT("debate", "vote_cnt", "debate_id"),
+        DEBATE_AGREE_CNT("debate", "agree_cnt", "debate_id"),
+        DEBATE_DISAGREE_CNT("debate", "disagree_cnt", "debate_id"),
+        DEBATE_COMMENT_CNT("debate", "comment_cnt", "debate_id"),
+        COMMENT_REPLY_CNT("comment", "reply_cnt", "comment_id"),
+        COMMENT_HEART("comment", "heart", "comment_id");
+
+        private final String sql;
+
+        Counter(String table, String column, String idColumn) {
+            this.sql = "UPDATE " + table + " SET " + column + " = " + column + " + ? WHERE " + idColumn + " = ?";
+        }
+    }
+
+    private record Key(Counter counter, long id) {
+    }
+
+    public void add(Counter counter, Long id, long delta) {
+        if (delta == 0) return;
+        Key key = new Key(counter, id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionDeltas().merge(key, delta, Long::sum);
+        } else {
+            pending.merge(key, delta, Long::sum);
+        }
+    }
+
+    // 버퍼에 쌓인 값 + 현재 트랜잭션에서 아직 커밋되지 않은 값 (같은 요청 안에서는 자기 변경이 보이도록)
+    public long pending(Counter counter, Long id) {
+        Key key = new Key(counter, id);
+        long uncommitted = 0;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Map<Key, Long> deltas = boundDeltas();
+            if (deltas != null) uncommitted = deltas.getOrDefault(key, 0L);
+        }
+        return pending.getOrDefault(key, 0L) + uncommitted;
+    }
+
+    public long get(Counter counter, Long id, Long persisted) { // DB 값 + 미반영 증감분
+        return (persisted == null ? 0L : persisted) + pending(counter, id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, Long> boundDeltas() {
+        return (Map<Key, Long>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private Map<Key, Long> transactionDeltas() {
+        Map<Key, Long> deltas = boundDeltas();
+        if (deltas != null) return deltas;
+
+        Map<Key, Long> created = new HashMap<>();
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                created.forEach((key, delta) -> pending.merge(key, delta, Long::sum));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CounterBuffer.this);
+            }
+        });
+        return created;
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms}")
+    public void flush() {
+        Map<Counter, List<Object[]>> batches = new EnumMap<>(Counter.class);
+        for (Key key : pending.keySet()) {
+            Long delta = pending.remove(key);
+            if (delta == null || delta == 0) continue;
+            batches.computeIfAbsent(key.counter(), c -> new ArrayList<>()).add(new Object[]{delta, key.id()});
+        }
+
+        for (Map.Entry<Counter, List<Object[]>> batch : batches.entrySet()) {
+            try {
+                // 배치 단위로 커밋해야 실패 후 재시도 시 일부만 두 번 반영되는 일이 없다
+                transactionTemplate.executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(batch.getKey().sql, batch.getValue()));
+            } catch (Exception e) {
+                log.warn("counter flush failed, re-queueing {} rows of {}", batch.getValue().size(), batch.getKey(), e);
+                for (Object[] row : batch.getValue()) { // 다음 주기에 다시 시도
+                    pending.merge(new Key(batch.getKey(), (Long) row[1]), (Long) row[0], Long::sum);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.warn("{} counter deltas could not be flushed on shutdown", pending.size());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션용 불투명 토큰. 정렬 키 값들을 '|' 로 이어 Base64(URL-safe) 인코딩한다.
+ */
+public final class CursorCodec {
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) sb.append(SEPARATOR);
+            sb.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 형식이 맞지 않으면 IllegalArgumentException
+    public static String[] decode(String cursor, int expectedParts) {
+        String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != expectedParts) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        return parts;
+    }
+}
@@ -0,0 +1,56 @@
+package util;
+
+/**
+ * 고유 방문자 수 추정용 HyperLogLog. precision p 면 2^p 바이트, 표준오차 약 1.04 / sqrt(2^p).
+ */
+public class HyperLogLog {
+    private final int precision;
+    private final byte[] registers;
+
+    public HyperLogLog(int precision) {
+        if (precision < 4 || precision > 16) {
+            throw new IllegalArgumentException("precision must be between 4 and 16");
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    public static long hash(long value) { // SplitMix64 finalizer
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public synchronized void offer(long hash) {
+        int index = (int) (hash >>> (64 - precision));
+        long rest = (hash << precision) | (1L << (precision - 1)); // 0 방지
+        byte rank = (byte) (Long.numberOfLeadingZeros(rest) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+
+    public synchronized long estimate() {
+        int m = registers.length;
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) zeros++;
+        }
+
+        double alpha = switch (m) {
+            case 16 -> 0.673;
+            case 32 -> 0.697;
+            case 64 -> 0.709;
+            default -> 0.7213 / (1 + 1.079 / m);
+        };
+        double estimate = alpha * m * m / sum;
+
+        if (estimate <= 2.5 * m && zeros > 0) { // 작은 값은 linear counting
+            estimate = m * Math.log((double) m / zeros);
+        }
+        return Math.round(estimate);
+    }
+}
@@ -0,0 +1,138 @@
+package util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 언어의 제목/내용 역색인. 토큰 -> 문서 id 집합.
+ * 검색어의 모든 토큰이 걸린 문서만 고르고(AND), 토큰 희소도(idf) 합으로 점수를 매긴다. 제목 일치는 내용의 2배.
+ * 쓰기는 번역 워커 한 곳, 읽기는 요청 스레드 여러 곳이라 ReadWriteLock 으로 보호한다.
+ */
+public class InvertedIndex {
+    public enum Field { TITLE, CONTENT, ANY }
+
+    private record Doc(String category, Set<String> titleTokens, Set<String> contentTokens) {
+    }
+
+    private final boolean cjk;
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final Map<String, Set<Long>> titlePostings = new HashMap<>();
+    private final Map<String, Set<Long>> contentPostings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public InvertedIndex(boolean cjk) {
+        this.cjk = cjk;
+    }
+
+    public void put(long id, String category, String title, String content) { // 같은 id 면 교체
+        Doc doc = new Doc(category,
+                SearchTokenizer.documentTokens(title, cjk),
+                SearchTokenizer.documentTokens(content, cjk));
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+            docs.put(id, doc);
+            for (String token : doc.titleTokens()) {
+                titlePostings.computeIfAbsent(token, t -> new HashSet<>()).add(id);
+            }
+            for (String token : doc.contentTokens()) {
+                contentPostings.computeIfAbsent(token, t -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            unlink(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 일치하는 문서 id 전체를 점수 내림차순(동점이면 최신 id 먼저)으로 반환. category '전체' 는 필터 없음
+    public List<Long> search(String keyword, String category, Field field) {
+        Set<String> tokens = SearchTokenizer.queryTokens(keyword, cjk);
+        if (tokens.isEmpty()) return new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Set<Long> candidates = null;
+            for (String token : tokens) {
+                Set<Long> matched = postings(token, field);
+                if (candidates == null) {
+                    candidates = new HashSet<>(matched);
+                } else {
+                    candidates.retainAll(matched);
+                }
+                if (candidates.isEmpty()) return new ArrayList<>();
+            }
+
+            boolean allCategories = category == null || "전체".equals(category);
+            Map<Long, Double> scores = new HashMap<>();
+            for (Long id : candidates) {
+                Doc doc = docs.get(id);
+                if (!allCategories && !category.equals(doc.category())) continue;
+
+                double score = 0;
+                for (String token : tokens) {
+                    double idf = Math.log(1.0 + (double) docs.size() / documentFrequency(token));
+                    if (field != Field.CONTENT && doc.titleTokens().contains(token)) score += 2 * idf;
+                    if (field != Field.TITLE && doc.contentTokens().contains(token)) score += idf;
+                }
+                scores.put(id, score);
+            }
+
+            List<Long> ranked = new ArrayList<>(scores.keySet());
+            ranked.sort(Comparator.comparing((Long id) -> scores.get(id)).reversed()
+                    .thenComparing(Comparator.reverseOrder()));
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> postings(String token, Field field) {
+        Set<Long> title = field == Field.CONTENT ? Set.of() : titlePostings.getOrDefault(token, Set.of());
+        Set<Long> content = field == Field.TITLE ? Set.of() : contentPostings.getOrDefault(token, Set.of());
+        if (title.isEmpty()) return content;
+        if (content.isEmpty()) return title;
+        Set<Long> union = new HashSet<>(title);
+        union.addAll(content);
+        return union;
+    }
+
+    private int documentFrequency(String token) {
+        return Math.max(1, titlePostings.getOrDefault(token, Set.of()).size()
+                + contentPostings.getOrDefault(token, Set.of()).size());
+    }
+
+    private void unlink(long id) {
+        Doc old = docs.remove(id);
+        if (old == null) return;
+        for (String token : old.titleTokens()) {
+            detach(titlePostings, token, id);
+        }
+        for (String token : old.contentTokens()) {
+            detach(contentPostings, token, id);
+        }
+    }
+
+    private static void detach(Map<String, Set<Long>> postings, String token, long id) {
+        Set<Long> ids = postings.get(token);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) postings.remove(token);
+    }
+}
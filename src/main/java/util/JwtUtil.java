@@ -1,18 +1,33 @@
 package util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
 
+    private static final long MAX_CACHE_NANOS = TimeUnit.HOURS.toNanos(1); // exp 가 없는 토큰의 상한
+
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, TokenClaims> claimsCache; // 토큰 해시 -> 검증된 클레임
 
     @Value("${jwt.access-token-expiration}")
     private long accessExpiration;
@@ -20,24 +35,73 @@ public class JwtUtil {
     @Value("${jwt.refresh-token-expiration}")
     private long refreshExpiration;
 
-    public JwtUtil(@Value("${jwt.token.secret}") String secret) {
+    public JwtUtil(@Value("${jwt.token.secret}") String secret,
+                   @Value("${jwt.claims-cache.max-size:50000}") long claimsCacheSize) {
         secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8)
                 , Jwts.SIG.HS256.key().build().getAlgorithm());
+        jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new Expiry<String, TokenClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+                        if (value.getExpiration() == null) {
+                            return MAX_CACHE_NANOS;
+                        }
+                        long remaining = value.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remaining));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TokenClaims {
+        private final Long userId;
+        private final String role;
+        private final Date expiration;
+    }
+
+    // 서명 검증은 토큰 수명 동안 노드당 한 번만 수행
+    public TokenClaims getClaims(String token) {
+        String key = digest(token);
+        TokenClaims cached = claimsCache.getIfPresent(key);
+        if (cached != null && (cached.getExpiration() == null || cached.getExpiration().after(new Date()))) {
+            return cached;
+        }
+
+        Claims claims = parse(token); // 만료/위조 토큰은 여기서 예외
+        TokenClaims tokenClaims = new TokenClaims(
+                claims.get("userId", Long.class), claims.get("role", String.class), claims.getExpiration());
+        claimsCache.put(key, tokenClaims);
+        return tokenClaims;
+    }
+
+    public Claims parse(String token) {
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     public Long getUserId(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseClaimsJws(token).getPayload().get("userId", Long.class);
+        return getClaims(token).getUserId();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseClaimsJws(token).getPayload().get("role", String.class);
+        return getClaims(token).getRole();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(secretKey).build()
-                .parseClaimsJws(token).getPayload().getExpiration().before(new Date());
+        return getClaims(token).getExpiration().before(new Date());
     }
 
     public String createToken(long userId, String role, String category) {
@@ -54,4 +118,13 @@ public class JwtUtil {
                 .signWith(secretKey).compact();
     }
 
-}
\ No newline at end of file
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
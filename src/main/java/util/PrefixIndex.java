@@ -0,0 +1,154 @@
+package util;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 언어의 제목 자동완성용 트라이.
+ * 제목 전체와 띄어쓰기 뒤 각 단어 시작 위치를 키로 넣고, 노드마다 인기 가중치 상위 TOP_K 개 id 를 미리 들고 있어서
+ * 조회는 접두어 길이만큼 내려간 뒤 목록을 읽기만 하면 된다.
+ * 가중치는 넣을 때의 값으로 고정되므로 주기적으로 새로 만들어 교체한다(DebateAutocomplete).
+ */
+public class PrefixIndex {
+    static final int TOP_K = 20;
+    private static final int MAX_DEPTH = 24; // 키 앞부분만 색인
+
+    private static final class Node {
+        private final Map<Integer, Node> children = new HashMap<>(4);
+        private final List<Long> top = new ArrayList<>(2);
+    }
+
+    private final Node root = new Node();
+    private final Map<Long, String> titles = new HashMap<>();
+    private final Map<Long, Long> weights = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 이미 있는 id 는 가중치를 그대로 두고(재구성 때만 바뀐다) 이전 제목의 경로에서 빼고 다시 넣는다. 제목이 같으면 건너뛴다
+    public void put(long id, String title, long weight) {
+        String normalized = SearchTokenizer.normalize(title);
+        if (normalized.isBlank()) return;
+        lock.writeLock().lock();
+        try {
+            String previous = titles.get(id);
+            if (previous != null) {
+                if (previous.equals(title)) return;
+                weight = weights.getOrDefault(id, weight);
+                String previousNormalized = SearchTokenizer.normalize(previous);
+                for (int start : keyStarts(previousNormalized)) {
+                    detach(previousNormalized, start, id);
+                }
+            }
+            titles.put(id, title);
+            weights.put(id, weight);
+            for (int start : keyStarts(normalized)) {
+                insert(normalized, start, id, weight);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 트라이 경로는 남겨 두고 조회 시 걸러낸다. 다음 재구성 때 정리된다
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            titles.remove(id);
+            weights.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return titles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 접두어에 맞는 제목을 가중치 내림차순으로 최대 limit 개. 결과는 (id, 제목)
+    public List<Map.Entry<Long, String>> complete(String prefix, int limit) {
+        String normalized = SearchTokenizer.normalize(prefix).strip();
+        if (normalized.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int depth = 0;
+            for (int i = 0; i < normalized.length() && depth < MAX_DEPTH; depth++) {
+                int codePoint = normalized.codePointAt(i);
+                node = node.children.get(codePoint);
+                if (node == null) return List.of();
+                i += Character.charCount(codePoint);
+            }
+
+            List<Map.Entry<Long, String>> result = new ArrayList<>();
+            for (Long id : node.top) {
+                String title = titles.get(id);
+                // 삭제/수정돼서 접두어에 맞지 않게 된 제목과, MAX_DEPTH 보다 긴 접두어의 나머지 부분은 여기서 거른다
+                if (title == null || !matches(SearchTokenizer.normalize(title), normalized)) continue;
+                result.add(Map.entry(id, title));
+                if (result.size() == limit) break;
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void insert(String key, int start, long id, long weight) {
+        Node node = root;
+        int depth = 0;
+        for (int i = start; i < key.length() && depth < MAX_DEPTH; depth++) {
+            int codePoint = key.codePointAt(i);
+            node = node.children.computeIfAbsent(codePoint, c -> new Node());
+            offer(node.top, id, weight);
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    private void detach(String key, int start, long id) {
+        Node node = root;
+        int depth = 0;
+        for (int i = start; i < key.length() && depth < MAX_DEPTH; depth++) {
+            int codePoint = key.codePointAt(i);
+            node = node.children.get(codePoint);
+            if (node == null) return;
+            node.top.remove(Long.valueOf(id));
+            i += Character.charCount(codePoint);
+        }
+    }
+
+    private void offer(List<Long> top, long id, long weight) {
+        top.remove(Long.valueOf(id)); // 같은 제목 안에서 같은 경로를 두 번 지나는 경우
+        int position = 0;
+        while (position < top.size() && weights.getOrDefault(top.get(position), 0L) >= weight) {
+            position++;
+        }
+        if (position >= TOP_K) return;
+        top.add(position, id);
+        if (top.size() > TOP_K) top.remove(TOP_K);
+    }
+
+    private static List<Integer> keyStarts(String normalized) {
+        List<Integer> starts = new ArrayList<>();
+        boolean atBoundary = true;
+        for (int i = 0; i < normalized.length(); ) {
+            int codePoint = normalized.codePointAt(i);
+            boolean wordChar = Character.isLetterOrDigit(codePoint);
+            if (wordChar && atBoundary) starts.add(i);
+            atBoundary = !wordChar;
+            i += Character.charCount(codePoint);
+        }
+        return starts;
+    }
+
+    private static boolean matches(String normalizedTitle, String prefix) {
+        for (int start : keyStarts(normalizedTitle)) {
+            if (normalizedTitle.startsWith(prefix, start)) return true;
+        }
+        return false;
+    }
+}
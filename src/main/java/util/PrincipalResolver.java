@@ -0,0 +1,95 @@
+package util;
+
+import com.debate.entity.User;
+import com.debate.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 토큰 -> User 변환 공통 컴포넌트.
+ * User 는 메모리 캐시(최대 크기 + TTL)에 보관하고, 캐시 미스일 때만 DB 를 조회한다.
+ * UserService 의 Kafka 리스너가 변경 사항을 반영(put/evict)한다. evict 는 트랜잭션이 커밋된 뒤에 적용된다.
+ * 지표: cache.gets{result=hit|miss}, cache.evictions, cache.size (name=principalCache)
+ */
+@Component
+public class PrincipalResolver {
+    private final JwtUtil jwtUtil;
+    private final UserRepository userRepository;
+    private final Cache<Long, User> userCache;
+
+    public PrincipalResolver(JwtUtil jwtUtil, UserRepository userRepository, MeterRegistry meterRegistry,
+                             @Value("${auth.user-cache.max-size}") long maxSize,
+                             @Value("${auth.user-cache.ttl}") Duration ttl) {
+        this.jwtUtil = jwtUtil;
+        this.userRepository = userRepository;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache, "principalCache");
+    }
+
+    public Optional<User> resolve(String token) {    // 토큰 검증 함수
+        try {
+            long userId = jwtUtil.getUserId(token);
+            return findUser(userId);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    public Optional<User> findUser(long userId) {
+        User user = userCache.getIfPresent(userId);
+        if(user != null) {
+            return Optional.of(user);
+        }
+        user = userRepository.findById(userId).orElse(null);
+        if(user == null) {
+            return Optional.empty();
+        }
+        userCache.put(userId, copyOf(user));
+        return Optional.of(user);
+    }
+
+    public void put(User user) { // 리스너에서 저장한 최신 값으로 교체
+        userCache.put(user.getUserId(), copyOf(user));
+    }
+
+    // 트랜잭션 안(유저 삭제)이면 커밋된 뒤에 지운다. 먼저 지우면 커밋 전에 캐시 미스가 난 요청이
+    // 아직 남아 있는 행을 다시 읽어서 TTL 동안 캐시에 넣어 둘 수 있다
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userCache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userCache.invalidate(userId);
+            }
+        });
+    }
+
+    // 영속성 컨텍스트에 묶인 인스턴스를 캐시에 넣지 않도록 복사본을 보관
+    private static User copyOf(User user) {
+        return User.builder()
+                .userId(user.getUserId())
+                .name(user.getName())
+                .nation(user.getNation())
+                .language(user.getLanguage())
+                .role(user.getRole())
+                .address(user.getAddress())
+                .ban(user.getBan())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 무작위 추출용 id 풀.
+ * id 를 배열에 모아 두고 위치를 HashMap 으로 들고 있어서 추가/삭제(마지막 원소와 자리 바꿈)가 O(1)이고,
+ * sample 은 Floyd 알고리즘으로 서로 다른 위치 k 개를 뽑아서 풀 크기와 상관없이 O(k) 이다.
+ */
+public class RecentIdPool {
+    private final List<Long> ids = new ArrayList<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    public synchronized void add(Long id) {
+        if (positions.containsKey(id)) return;
+        positions.put(id, ids.size());
+        ids.add(id);
+    }
+
+    public synchronized void remove(Long id) {
+        Integer position = positions.remove(id);
+        if (position == null) return;
+        Long last = ids.remove(ids.size() - 1);
+        if (position < ids.size()) { // 빈 자리를 마지막 원소로 채운다
+            ids.set(position, last);
+            positions.put(last, position);
+        }
+    }
+
+    public synchronized int size() {
+        return ids.size();
+    }
+
+    // 서로 다른 id 최대 k 개. 풀이 k 보다 작으면 전부
+    public synchronized List<Long> sample(int k, Random random) {
+        int n = ids.size();
+        if (k >= n) {
+            List<Long> all = new ArrayList<>(ids);
+            shuffle(all, random);
+            return all;
+        }
+
+        Set<Integer> chosen = new HashSet<>();
+        List<Long> result = new ArrayList<>(k);
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            int pick = chosen.contains(t) ? j : t; // j 는 앞 단계에서 뽑힐 수 없었던 위치
+            chosen.add(pick);
+            result.add(ids.get(pick));
+        }
+        shuffle(result, random); // Floyd 는 집합만 균등하므로 순서를 섞는다
+        return result;
+    }
+
+    private static void shuffle(List<Long> list, Random random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            Long tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package util;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 색인용 토큰 분리.
+ * KO/JA/ZH 는 띄어쓰기가 단어 경계가 아니므로 글자 단위 1-gram + 2-gram, 나머지 언어는 단어 단위.
+ */
+public final class SearchTokenizer {
+    private static final String SEPARATORS = "[^\\p{L}\\p{N}]+";
+
+    private SearchTokenizer() {
+    }
+
+    public static boolean isCjk(String language) {
+        return "KO".equals(language) || "JA".equals(language) || "ZH".equals(language);
+    }
+
+    // 문서 색인용. CJK 는 1-gram 도 넣어서 한 글자 검색어도 찾을 수 있게 한다
+    public static Set<String> documentTokens(String text, boolean cjk) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String run : runs(text)) {
+            if (!cjk) {
+                tokens.add(run);
+                continue;
+            }
+            int[] chars = run.codePoints().toArray();
+            for (int i = 0; i < chars.length; i++) {
+                tokens.add(new String(chars, i, 1));
+                if (i + 1 < chars.length) tokens.add(new String(chars, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어용. CJK 는 두 글자 이상이면 2-gram 만 쓴다 (1-gram 은 거의 모든 문서에 걸림)
+    public static Set<String> queryTokens(String keyword, boolean cjk) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String run : runs(keyword)) {
+            if (!cjk) {
+                tokens.add(run);
+                continue;
+            }
+            int[] chars = run.codePoints().toArray();
+            if (chars.length == 1) {
+                tokens.add(run);
+                continue;
+            }
+            for (int i = 0; i + 1 < chars.length; i++) {
+                tokens.add(new String(chars, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    public static String normalize(String text) {
+        if (text == null) return "";
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] runs(String text) {
+        if (text == null || text.isBlank()) return new String[0];
+        String normalized = normalize(text);
+        return Arrays.stream(normalized.split(SEPARATORS))
+                .filter(run -> !run.isEmpty())
+                .toArray(String[]::new);
+    }
+}
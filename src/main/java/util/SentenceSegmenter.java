@@ -0,0 +1,69 @@
+package util;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 번역 단위 문장 분리.
+ * 글을 문장 단위로 나눠서 문장별로 번역 메모리를 찾으면, 오타 하나 고친 수정은 바뀐 문장만 API 로 보낸다.
+ * 줄바꿈은 항상 경계로 보고, 앞뒤 공백은 번역 대상에서 빼 두었다가 join 할 때 그대로 붙여서 원문 레이아웃을 유지한다.
+ */
+public final class SentenceSegmenter {
+    private SentenceSegmenter() {
+    }
+
+    // leading + sentence + trailing 을 이어 붙이면 원문 조각이 된다. sentence 가 빈 문자열이면 공백뿐인 조각
+    public record Segment(String leading, String sentence, String trailing) {
+        public boolean isBlank() {
+            return sentence.isEmpty();
+        }
+    }
+
+    public static List<Segment> split(String text, String language) {
+        List<Segment> segments = new ArrayList<>();
+        if (text == null || text.isEmpty()) return segments;
+
+        BreakIterator iterator = BreakIterator.getSentenceInstance(locale(language));
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int newline = text.indexOf('\n', lineStart);
+            int lineEnd = newline < 0 ? text.length() : newline + 1;
+            String line = text.substring(lineStart, lineEnd);
+
+            iterator.setText(line);
+            int start = iterator.first();
+            for (int end = iterator.next(); end != BreakIterator.DONE; start = end, end = iterator.next()) {
+                segments.add(segment(line.substring(start, end)));
+            }
+            lineStart = lineEnd;
+        }
+        return segments;
+    }
+
+    // 문장 자리에 번역문을 넣어서 다시 이어 붙인다. translated 는 segments 와 같은 순서, 공백 조각 자리는 무시
+    public static String join(List<Segment> segments, List<String> translated) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < segments.size(); i++) {
+            Segment segment = segments.get(i);
+            sb.append(segment.leading());
+            if (!segment.isBlank()) sb.append(translated.get(i));
+            sb.append(segment.trailing());
+        }
+        return sb.toString();
+    }
+
+    private static Segment segment(String piece) {
+        int from = 0;
+        int to = piece.length();
+        while (from < to && Character.isWhitespace(piece.charAt(from))) from++;
+        while (to > from && Character.isWhitespace(piece.charAt(to - 1))) to--;
+        if (from == to) return new Segment(piece, "", "");
+        return new Segment(piece.substring(0, from), piece.substring(from, to), piece.substring(to));
+    }
+
+    private static Locale locale(String language) {
+        return language == null ? Locale.ROOT : Locale.forLanguageTag(language.toLowerCase());
+    }
+}
@@ -0,0 +1,69 @@
+package util;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷. capacity 만큼 몰아 쓸 수 있고 초당 refillPerSecond 씩 다시 찬다.
+ * 요청량이 capacity 보다 크면 버킷이 가득 찼을 때 한 번에 가져가고 잔량을 음수로 남긴다(큰 요청이 영원히 못 지나가는 것 방지).
+ */
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerSecond;
+    private final LongSupplier nanoClock;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(long capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    TokenBucket(long capacity, double refillPerSecond, LongSupplier nanoClock) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("capacity and refill rate must be positive");
+        }
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public synchronized boolean tryAcquire(long permits) {
+        refill();
+        double needed = Math.min(permits, capacity);
+        if (tokens < needed) return false;
+        tokens -= permits;
+        return true;
+    }
+
+    // 토큰이 찰 때까지 기다린다. maxWaitNanos 안에 못 받으면 false
+    public boolean acquire(long permits, long maxWaitNanos) throws InterruptedException {
+        long deadline = nanoClock.getAsLong() + maxWaitNanos;
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                double needed = Math.min(permits, capacity);
+                if (tokens >= needed) {
+                    tokens -= permits;
+                    return true;
+                }
+                waitNanos = (long) Math.ceil((needed - tokens) * 1_000_000_000d / refillPerSecond);
+            }
+            long remaining = deadline - nanoClock.getAsLong();
+            if (waitNanos > remaining) return false;
+            Thread.sleep(Math.max(1, waitNanos / 1_000_000), (int) (waitNanos % 1_000_000));
+        }
+    }
+
+    public synchronized double available() {
+        refill();
+        return tokens;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerSecond / 1_000_000_000d);
+        lastRefill = now;
+    }
+}
@@ -1,7 +1,8 @@
 package util;
 
-import com.debate.dto.DebateReqDto;
+import com.debate.entity.Comment;
 import com.debate.entity.Debate;
+import com.debate.entity.Reply;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -11,4 +12,35 @@ public class TranslationJob {
     private final Object entity;
     private final Object dto;
     private final Long optionalId;
+
+    public String aggregateType() {
+        if (entity instanceof Debate) return "debate";
+        if (entity instanceof Comment) return "comment";
+        if (entity instanceof Reply) return "reply";
+        throw new IllegalArgumentException("unknown translation target: " + entity);
+    }
+
+    public Long aggregateId() {
+        if (entity instanceof Debate debate) return debate.getDebateId();
+        if (entity instanceof Comment comment) return comment.getCommentId();
+        if (entity instanceof Reply reply) return reply.getReplyId();
+        throw new IllegalArgumentException("unknown translation target: " + entity);
+    }
+
+    public int priority() {
+        return priority(aggregateType(), optionalId != null);
+    }
+
+    public static int priority(String aggregateType, boolean edit) { // 토론 > 댓글 > 답글 > 수정
+        if (edit) return 3;
+        return switch (aggregateType) {
+            case "debate" -> 0;
+            case "comment" -> 1;
+            default -> 2;
+        };
+    }
+
+    public String key() { // 같은 글의 작업은 순서대로 처리
+        return aggregateType() + ":" + aggregateId();
+    }
 }
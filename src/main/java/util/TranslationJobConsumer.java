@@ -0,0 +1,221 @@
+package util;
+
+import com.debate.dto.CommentReqDto;
+import com.debate.dto.DebateReqDto;
+import com.debate.dto.ReplyReqDto;
+import com.debate.dto.TranslationDispatchDto;
+import com.debate.entity.TranslationOutbox;
+import com.debate.repository.CommentRepository;
+import com.debate.repository.DebateRepository;
+import com.debate.repository.ReplyRepository;
+import com.debate.repository.TranslationOutboxRepository;
+import com.debate.service.TranslationQuotaException;
+import com.debate.service.TranslationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * translation-jobs 토픽 컨슈머. 노드마다 translation.workers 개 스레드가 같은 그룹으로 파티션을 나눠 받는다.
+ * 실패하면 지수 백오프로 재시도(outbox 를 다시 PENDING 으로)하고, max-attempts 를 넘기면 FAILED 로 남기고
+ * 작성자에게 알린다. 글은 지우지 않으므로 원인을 고친 뒤 TranslationQueue.requeueFailed 로 다시 돌릴 수 있다.
+ * 번역 API 한도 초과는 시도 횟수에 넣지 않는다.
+ * 지표: translation.jobs.queue.time{type} (작성 -> 첫 실행), translation.jobs.completion.time{type,edit} (작성 -> 전 언어 번역 완료),
+ *       translation.jobs.run.time{type}, translation.jobs.processed{type,result}, translation.workers.busy, translation.workers.utilization
+ */
+@Slf4j
+@Component
+public class TranslationJobConsumer {
+    private final TranslationOutboxRepository outboxRepository;
+    private final DebateRepository debateRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+    private final TranslationService translationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+
+    public TranslationJobConsumer(TranslationOutboxRepository outboxRepository,
+                                  DebateRepository debateRepository,
+                                  CommentRepository commentRepository,
+                                  ReplyRepository replyRepository,
+                                  TranslationService translationService,
+                                  ObjectMapper objectMapper,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${translation.workers}") int workers,
+                                  @Value("${translation.outbox.max-attempts}") int maxAttempts,
+                                  @Value("${translation.outbox.base-backoff}") Duration baseBackoff,
+                                  @Value("${translation.outbox.max-backoff}") Duration maxBackoff) {
+        this.outboxRepository = outboxRepository;
+        this.debateRepository = debateRepository;
+        this.commentRepository = commentRepository;
+        this.replyRepository = replyRepository;
+        this.translationService = translationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.meterRegistry = meterRegistry;
+        // 1 에 붙어 있으면 workers(또는 노드)를 늘릴 때
+        Gauge.builder("translation.workers.busy", busyWorkers, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("translation.workers.utilization", busyWorkers, busy -> (double) busy.get() / workers)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "${translation.kafka.topic}", groupId = "${translation.kafka.group-id}",
+            concurrency = "${translation.workers}",
+            properties = "max.poll.records=${translation.kafka.max-poll-records}")
+    public void consume(String message) {
+        TranslationDispatchDto dispatch;
+        try {
+            dispatch = objectMapper.readValue(message, TranslationDispatchDto.class);
+        } catch (Exception e) {
+            log.warn("unreadable translation dispatch: {}", message, e);
+            return;
+        }
+
+        Integer started = transactionTemplate.execute(status -> outboxRepository.startRun(
+                dispatch.getOutboxId(), dispatch.getAttempts(), LocalDateTime.now()));
+        if (started == null || started == 0) { // 이미 처리됐거나 다시 발행된 작업
+            log.debug("skipping stale translation dispatch {}", message);
+            return;
+        }
+        busyWorkers.incrementAndGet();
+        try {
+            outboxRepository.findById(dispatch.getOutboxId()).ifPresent(this::process);
+        } finally {
+            busyWorkers.decrementAndGet();
+        }
+    }
+
+    private void process(TranslationOutbox row) {
+        String type = row.getAggregateType();
+        if (row.getAttempts() == 1 && row.getCreatedAt() != null) {
+            Timer.builder("translation.jobs.queue.time").tag("type", type).register(meterRegistry)
+                    .record(Duration.between(row.getCreatedAt(), LocalDateTime.now()));
+        }
+
+        TranslationJob job;
+        try {
+            job = toJob(row);
+        } catch (Exception e) {
+            fail(row, null, e); // payload 가 깨진 작업은 재시도해도 같다
+            return;
+        }
+        if (job == null) { // 번역 전에 글이 삭제됨
+            outboxRepository.deleteById(row.getId());
+            processed(type, "dropped");
+            return;
+        }
+
+        Timer.Sample run = Timer.start(meterRegistry);
+        try {
+            translationService.handleJob(job);
+            outboxRepository.deleteById(row.getId());
+            processed(type, "success");
+            if (row.getCreatedAt() != null) {
+                Timer.builder("translation.jobs.completion.time")
+                        .tag("type", type).tag("edit", String.valueOf(row.isEdit()))
+                        .register(meterRegistry)
+                        .record(Duration.between(row.getCreatedAt(), LocalDateTime.now()));
+            }
+        } catch (Exception e) {
+            if (TranslationQuotaException.isCause(e)) { // 한도 초과는 시도 횟수에 넣지 않고 미룬다
+                processed(type, "deferred");
+                LocalDateTime next = LocalDateTime.now().plus(backoff(Math.max(1, row.getAttempts())));
+                log.warn("translation job {} deferred by quota until {}", job.key(), next);
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxRepository.markDeferred(row.getId(), next, errorMessage(e)));
+            } else if (row.getAttempts() >= maxAttempts) {
+                fail(row, job, e);
+            } else {
+                processed(type, "retry");
+                LocalDateTime next = LocalDateTime.now().plus(backoff(row.getAttempts()));
+                log.warn("translation job {} failed (attempt {}/{}), retry at {}",
+                        job.key(), row.getAttempts(), maxAttempts, next, e);
+                transactionTemplate.executeWithoutResult(status ->
+                        outboxRepository.markRetry(row.getId(), next, errorMessage(e)));
+            }
+        } finally {
+            run.stop(meterRegistry.timer("translation.jobs.run.time", "type", type));
+        }
+    }
+
+    private void processed(String type, String result) {
+        meterRegistry.counter("translation.jobs.processed", "type", type, "result", result).increment();
+    }
+
+    private void fail(TranslationOutbox row, TranslationJob job, Exception e) {
+        log.error("translation job {}:{} moved to FAILED after {} attempts",
+                row.getAggregateType(), row.getAggregateId(), row.getAttempts(), e);
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markFailed(row.getId(), errorMessage(e)));
+        processed(row.getAggregateType(), "failed");
+        if (job != null) {
+            try {
+                translationService.notifyFailure(job);
+            } catch (Exception notifyError) {
+                log.warn("translation failure notification failed: {}", job.key(), notifyError);
+            }
+        }
+    }
+
+    Duration backoff(int attempts) { // base * 2^(attempts-1), 상한 max-backoff, ±20% 지터
+        long millis = baseBackoff.toMillis() << Math.min(attempts - 1, 20);
+        millis = Math.min(millis, maxBackoff.toMillis());
+        long jitter = (long) (millis * 0.2 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+        return Duration.ofMillis(Math.max(0, millis + jitter));
+    }
+
+    private TranslationJob toJob(TranslationOutbox row) {
+        Long id = row.getAggregateId();
+        Long optionalId = row.isEdit() ? id : null;
+        switch (row.getAggregateType()) {
+            case "debate":
+                return debateRepository.findById(id)
+                        .map(debate -> job(debate, row.getPayload(), DebateReqDto.class, optionalId))
+                        .orElse(null);
+            case "comment":
+                return commentRepository.findById(id)
+                        .map(comment -> job(comment, row.getPayload(), CommentReqDto.class, optionalId))
+                        .orElse(null);
+            case "reply":
+                return replyRepository.findById(id)
+                        .map(reply -> job(reply, row.getPayload(), ReplyReqDto.class, optionalId))
+                        .orElse(null);
+            default:
+                throw new IllegalArgumentException("unknown aggregate type: " + row.getAggregateType());
+        }
+    }
+
+    private TranslationJob job(Object entity, String payload, Class<?> dtoType, Long optionalId) {
+        try {
+            return new TranslationJob(entity, objectMapper.readValue(payload, dtoType), optionalId);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("translation job payload is unreadable", e);
+        }
+    }
+
+    static String errorMessage(Throwable e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
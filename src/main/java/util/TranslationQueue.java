@@ -1,34 +1,263 @@
 package util;
 
+import com.debate.dto.TranslationDispatchDto;
+import com.debate.entity.TranslationOutbox;
+import com.debate.repository.TranslationOutboxRepository;
 import com.debate.service.TranslationService;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 번역 작업 큐 (translation_outbox 테이블 -> translation-jobs 토픽).
+ * enqueue 는 글 저장과 같은 트랜잭션에서 작업 행을 기록하므로 파드가 재시작돼도 작업이 사라지지 않는다.
+ * 각 노드는 poll-interval 마다 FOR UPDATE SKIP LOCKED 로 작업을 나눠 가져가 토픽에 발행하고,
+ * 실행은 모든 노드의 TranslationJobConsumer 가 파티션을 나눠서 맡는다. 노드를 늘리면 처리량도 같이 늘어난다.
+ * 발행은 컨슈머가 받아 갈 수 있는 만큼(partitions * max-poll-records 에서 이미 발행/실행 중인 작업을 뺀 수)만 한다.
+ * 나머지는 outbox 에 PENDING 으로 남아 있어서, 컨슈머에 자리가 날 때 그 시점의 우선순위 순서로 발행된다
+ * (토픽 파티션 안은 선입선출이므로 미리 발행해 두면 밀린 답글 뒤에 새 토론이 줄을 서게 된다).
+ * 같은 글의 작업은 같은 키(aggregate)로 발행되고, 앞 작업이 끝나야 다음 작업을 가져오므로 작성 -> 수정 순서가 지켜진다.
+ * 발행된 작업(PROCESSING)은 컨슈머 하나만 RUNNING 으로 가져가 실행하므로 카프카가 같은 메시지를 다시 전달해도 두 번 실행되지 않는다.
+ * lease 안에 실행이 시작되지 않거나 끝나지 않은 작업(노드 장애 등)은 다시 대기 상태가 되어 재발행된다.
+ * 실행되지 않고 재발행된 경우는 시도 횟수에 넣지 않는다.
+ * 우선순위는 토론 > 댓글 > 답글 > 수정 순으로 가져가고, 밀린 작업(PENDING + PROCESSING + RUNNING)이 max-pending 에 가까워지면 낮은 우선순위부터
+ * admits() 가 false 를 돌려 글쓰기 요청을 503 으로 거절한다 (토론 100%, 댓글 90%, 답글 80%, 수정 70% 까지 허용).
+ * 지연 번역 모드의 댓글/답글은 원문만 저장하므로 대기열을 거치지 않는다.
+ * 지표: translation.jobs.backlog, translation.jobs.failed, translation.jobs.shed{priority},
+ *       translation.jobs.depth{type,status}, translation.jobs.oldest.age{type} (가장 오래 기다린 PENDING 작업, 초)
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class TranslationQueue {
+    private final TranslationOutboxRepository outboxRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
     private final TranslationService translationService;
-    private final BlockingQueue<TranslationJob> queue = new LinkedBlockingQueue<>();
-
-    @PostConstruct
-    public void startWorker() { // 큐 작업
-        new Thread(() -> {
-            while (true) {
-                try {
-                    TranslationJob job = queue.take(); // 대기
-                    translationService.handleJob(job);
-                } catch (Exception e) {
-                    e.printStackTrace();
-                }
+    private final MeterRegistry meterRegistry;
+
+    private final String topic;
+    private final int relayBatchSize;
+    private final int maxInFlight;
+    private final Duration lease;
+    private final Duration failedRetention;
+    private final long maxPending;
+    private static final double[] LANE_SHARE = {1.0, 0.9, 0.8, 0.7}; // TranslationJob.priority 별 허용 비율
+
+    private static final List<String> BACKLOG =
+            List.of(TranslationOutbox.PENDING, TranslationOutbox.PROCESSING, TranslationOutbox.RUNNING);
+    private static final List<String> IN_FLIGHT = List.of(TranslationOutbox.PROCESSING, TranslationOutbox.RUNNING);
+
+    private final AtomicLong backlogCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private static final List<String> TYPES = List.of("debate", "comment", "reply");
+    private static final List<String> STATUSES =
+            List.of(TranslationOutbox.PENDING, TranslationOutbox.PROCESSING, TranslationOutbox.RUNNING,
+                    TranslationOutbox.FAILED);
+    private final Map<String, AtomicLong> depth = new HashMap<>();             // "type:STATUS" -> 작업 수
+    private final Map<String, AtomicLong> oldestPending = new HashMap<>();     // type -> 생성 시각 epoch ms, 0 이면 없음
+
+    public TranslationQueue(TranslationOutboxRepository outboxRepository,
+                            KafkaTemplate<String, String> kafkaTemplate,
+                            ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate,
+                            TranslationService translationService,
+                            MeterRegistry meterRegistry,
+                            @Value("${translation.kafka.topic}") String topic,
+                            @Value("${translation.outbox.relay-batch-size}") int relayBatchSize,
+                            @Value("${translation.kafka.partitions}") int partitions,
+                            @Value("${translation.kafka.max-poll-records}") int maxPollRecords,
+                            @Value("${translation.outbox.lease}") Duration lease,
+                            @Value("${translation.outbox.max-pending}") long maxPending,
+                            @Value("${translation.outbox.failed-retention}") Duration failedRetention) {
+        this.outboxRepository = outboxRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.translationService = translationService;
+        this.meterRegistry = meterRegistry;
+        this.topic = topic;
+        this.relayBatchSize = relayBatchSize;
+        this.maxInFlight = partitions * maxPollRecords;
+        this.lease = lease;
+        this.maxPending = maxPending;
+        this.failedRetention = failedRetention;
+        Gauge.builder("translation.jobs.backlog", backlogCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("translation.jobs.failed", failedCount, AtomicLong::get).register(meterRegistry);
+        for (String type : TYPES) {
+            for (String status : STATUSES) {
+                AtomicLong count = new AtomicLong();
+                depth.put(type + ":" + status, count);
+                Gauge.builder("translation.jobs.depth", count, AtomicLong::get)
+                        .tag("type", type).tag("status", status.toLowerCase())
+                        .register(meterRegistry);
             }
-        }).start();
+            AtomicLong oldest = new AtomicLong();
+            oldestPending.put(type, oldest);
+            Gauge.builder("translation.jobs.oldest.age", oldest,
+                            o -> o.get() == 0 ? 0 : (System.currentTimeMillis() - o.get()) / 1000.0)
+                    .tag("type", type)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    // 글을 저장하기 전에 확인. false 면 대기열이 차서 이 우선순위의 작업은 받지 않는다
+    public boolean admits(String aggregateType, boolean edit) {
+        if (translationService.isLazy(aggregateType)) return true;
+        int priority = TranslationJob.priority(aggregateType, edit);
+        if (backlogCount.get() < maxPending * LANE_SHARE[priority]) return true;
+        meterRegistry.counter("translation.jobs.shed", "priority", String.valueOf(priority)).increment();
+        log.warn("translation queue full ({} queued), shedding {} {}", backlogCount.get(), edit ? "edit of" : "new", aggregateType);
+        return false;
     }
 
+    // 호출하는 쪽의 트랜잭션에 참여한다. 글 저장이 롤백되면 작업도 남지 않는다
     public void enqueue(TranslationJob job) {
-        queue.offer(job);
+        if (translationService.isLazy(job.aggregateType())) {
+            translationService.storeSource(job);
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(job.getDto());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("translation job payload serialization failed: " + job.key(), e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(TranslationOutbox.builder()
+                .aggregateType(job.aggregateType())
+                .aggregateId(job.aggregateId())
+                .edit(job.getOptionalId() != null)
+                .priority(job.priority())
+                .payload(payload)
+                .status(TranslationOutbox.PENDING)
+                .attempts(0)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recoverExpired();
+    }
+
+    @Scheduled(fixedDelayString = "${translation.outbox.recover-interval-ms}")
+    public void recoverExpired() {
+        try {
+            Integer released = transactionTemplate.execute(status ->
+                    outboxRepository.releaseExpired(LocalDateTime.now().minus(lease)));
+            if (released != null && released > 0) {
+                log.warn("released {} translation jobs whose lease expired", released);
+            }
+            refreshStats();
+        } catch (Exception e) {
+            log.warn("translation outbox recovery failed", e);
+        }
+    }
+
+    // FAILED 작업을 다시 대기열에 넣는다. id 가 null 이면 전부. 글은 지우지 않았으므로 그대로 다시 번역된다
+    public int requeueFailed(Long id) {
+        Integer requeued = transactionTemplate.execute(status ->
+                outboxRepository.requeueFailed(id, LocalDateTime.now()));
+        log.info("requeued {} failed translation jobs", requeued);
+        return requeued == null ? 0 : requeued;
+    }
+
+    // max-attempts 를 넘겨 FAILED 로 남은 작업은 원인 확인/재시도용으로 failed-retention 동안만 보관
+    @Scheduled(cron = "${translation.outbox.purge-cron}")
+    public void purgeFailed() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(failedRetention);
+        try {
+            Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteFailedBefore(cutoff));
+            log.info("failed translation jobs purged. deleted={}", deleted);
+        } catch (Exception e) {
+            log.warn("failed translation job purge failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${translation.outbox.poll-interval-ms}")
+    public void relay() {
+        List<TranslationOutbox> claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> {
+                // 컨슈머가 아직 받지 못한 만큼만 발행한다. 노드끼리 동시에 세면 한 주기 동안 조금 넘칠 수 있다
+                long room = maxInFlight - outboxRepository.countByStatusIn(IN_FLIGHT);
+                if (room <= 0) return List.<TranslationOutbox>of();
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> ids = outboxRepository.lockClaimable(now, (int) Math.min(relayBatchSize, room));
+                if (ids.isEmpty()) return List.<TranslationOutbox>of();
+                outboxRepository.markProcessing(ids, now);
+                return outboxRepository.findAllById(ids);
+            });
+            backlogCount.set(outboxRepository.countByStatusIn(BACKLOG)); // admits() 기준값만. 나머지 지표는 recoverExpired 주기
+        } catch (Exception e) {
+            log.warn("translation outbox claim failed", e);
+            return;
+        }
+
+        for (TranslationOutbox row : claimed) {
+            String key = row.getAggregateType() + ":" + row.getAggregateId();
+            String message;
+            try {
+                message = objectMapper.writeValueAsString(TranslationDispatchDto.builder()
+                        .outboxId(row.getId())
+                        .attempts(row.getAttempts())
+                        .build());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            kafkaTemplate.send(topic, key, message).whenComplete((result, e) -> {
+                if (e == null) return;
+                log.warn("translation job {} publish failed, will retry", key, e);
+                transactionTemplate.executeWithoutResult(status -> outboxRepository.markDeferred(
+                        row.getId(), LocalDateTime.now(), TranslationJobConsumer.errorMessage(e)));
+            });
+        }
+    }
+
+    // GROUP BY 쿼리 한 번으로 대기열 지표와 admits() 기준값을 함께 갱신 (recover-interval-ms 마다)
+    private void refreshStats() {
+        Map<String, Long> counts = new HashMap<>();
+        Map<String, LocalDateTime> oldest = new HashMap<>();
+        for (Object[] row : outboxRepository.summarize()) {
+            String type = (String) row[0];
+            String status = (String) row[1];
+            counts.put(type + ":" + status, (Long) row[2]);
+            if (TranslationOutbox.PENDING.equals(status)) oldest.put(type, (LocalDateTime) row[3]);
+        }
+
+        long backlog = 0;
+        long failed = 0;
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            String status = entry.getKey().substring(entry.getKey().indexOf(':') + 1);
+            if (BACKLOG.contains(status)) backlog += entry.getValue();
+            if (TranslationOutbox.FAILED.equals(status)) failed += entry.getValue();
+        }
+        backlogCount.set(backlog);
+        failedCount.set(failed);
+        depth.forEach((key, count) -> count.set(counts.getOrDefault(key, 0L)));
+        oldestPending.forEach((type, value) -> {
+            LocalDateTime createdAt = oldest.get(type);
+            value.set(createdAt == null ? 0 : createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        });
     }
 }
@@ -0,0 +1,84 @@
+package util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import util.CounterBuffer.Counter;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토론 조회수 집계. 토론별/일별 HyperLogLog 로 같은 유저의 반복 조회를 걸러내고,
+ * 추정 고유 조회수의 증가분만 주기적으로 CounterBuffer 를 거쳐 debate.views 에 반영한다.
+ * 노드별로 따로 집계하므로 여러 노드를 오간 유저는 노드 수만큼 잡힐 수 있다.
+ */
+@Component
+public class ViewTracker {
+    private final CounterBuffer counterBuffer;
+    private final int precision;
+    private final Clock clock;
+    private final ConcurrentHashMap<Long, DailySketch> sketches = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ViewTracker(CounterBuffer counterBuffer, @Value("${view.hll-precision}") int precision) {
+        this(counterBuffer, precision, Clock.systemDefaultZone());
+    }
+
+    ViewTracker(CounterBuffer counterBuffer, int precision, Clock clock) { // 테스트에서 날짜를 넘길 때 사용
+        this.counterBuffer = counterBuffer;
+        this.precision = precision;
+        this.clock = clock;
+    }
+
+    private static class DailySketch {
+        private final LocalDate day;
+        private final HyperLogLog hll;
+        private long flushed; // 이미 views 에 더한 추정치
+
+        private DailySketch(LocalDate day, HyperLogLog hll) {
+            this.day = day;
+            this.hll = hll;
+        }
+
+        private long unflushed() {
+            return Math.max(0, hll.estimate() - flushed);
+        }
+    }
+
+    public void record(Long debateId, Long userId) {
+        LocalDate today = LocalDate.now(clock);
+        DailySketch sketch = sketches.compute(debateId, (id, current) -> {
+            if (current != null && current.day.equals(today)) {
+                return current;
+            }
+            if (current != null) { // 날짜가 바뀌면 전날 남은 분을 넘기고 새로 시작
+                counterBuffer.add(Counter.DEBATE_VIEWS, id, current.unflushed());
+            }
+            return new DailySketch(today, new HyperLogLog(precision));
+        });
+        sketch.hll.offer(HyperLogLog.hash(userId));
+    }
+
+    public long pending(Long debateId) {
+        DailySketch sketch = sketches.get(debateId);
+        return sketch == null ? 0 : sketch.unflushed();
+    }
+
+    @Scheduled(fixedDelayString = "${view.flush-interval-ms}")
+    public void flush() {
+        LocalDate today = LocalDate.now(clock);
+        for (Long debateId : sketches.keySet()) {
+            sketches.computeIfPresent(debateId, (id, sketch) -> {
+                long delta = sketch.unflushed();
+                if (delta > 0) {
+                    counterBuffer.add(Counter.DEBATE_VIEWS, id, delta);
+                    sketch.flushed += delta;
+                }
+                return sketch.day.equals(today) ? sketch : null; // 지난 날짜 스케치는 정리
+            });
+        }
+    }
+}
@@ -0,0 +1,114 @@
+-- 기존 운영 스키마 (Flyway 도입 이전 상태 그대로). 기존 DB 는 baseline-on-migrate 로 이 버전에서 시작하므로
+-- 이 파일은 운영 DB 에 실행되지 않는다. 이후 변경은 절대 여기에 넣지 말고 새 버전으로 추가한다.
+CREATE TABLE IF NOT EXISTS `user` (
+    user_id  BIGINT       NOT NULL,
+    name     VARCHAR(255),
+    nation   VARCHAR(255),
+    language VARCHAR(255),
+    role     VARCHAR(255),
+    address  VARCHAR(255),
+    ban      INT,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS debate (
+    debate_id    BIGINT NOT NULL AUTO_INCREMENT,
+    created_at   VARCHAR(255),
+    views        BIGINT,
+    vote_cnt     BIGINT,
+    comment_cnt  BIGINT,
+    agree_cnt    BIGINT,
+    disagree_cnt BIGINT,
+    category     VARCHAR(255),
+    PRIMARY KEY (debate_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS comment (
+    comment_id  BIGINT NOT NULL AUTO_INCREMENT,
+    debate_id   BIGINT,
+    user_id     BIGINT,
+    created_at  VARCHAR(255),
+    reply_cnt   BIGINT,
+    heart       BIGINT,
+    PRIMARY KEY (comment_id),
+    CONSTRAINT fk_comment_debate FOREIGN KEY (debate_id) REFERENCES debate (debate_id),
+    CONSTRAINT fk_comment_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS reply (
+    reply_id    BIGINT NOT NULL AUTO_INCREMENT,
+    comment_id  BIGINT,
+    user_id     BIGINT,
+    created_at  VARCHAR(255),
+    PRIMARY KEY (reply_id),
+    CONSTRAINT fk_reply_comment FOREIGN KEY (comment_id) REFERENCES comment (comment_id),
+    CONSTRAINT fk_reply_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS vote (
+    vote_id   BIGINT NOT NULL AUTO_INCREMENT,
+    debate_id BIGINT,
+    user_id   BIGINT,
+    `option`  VARCHAR(255),
+    PRIMARY KEY (vote_id),
+    CONSTRAINT fk_vote_debate FOREIGN KEY (debate_id) REFERENCES debate (debate_id),
+    CONSTRAINT fk_vote_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS debate_reaction (
+    id        BIGINT NOT NULL AUTO_INCREMENT,
+    debate_id BIGINT,
+    user_id   BIGINT,
+    `option`  VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_debate_reaction_debate FOREIGN KEY (debate_id) REFERENCES debate (debate_id),
+    CONSTRAINT fk_debate_reaction_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS comment_reaction (
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    comment_id BIGINT,
+    user_id    BIGINT,
+    `option`   VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_reaction_comment FOREIGN KEY (comment_id) REFERENCES comment (comment_id),
+    CONSTRAINT fk_comment_reaction_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS reply_reaction (
+    id       BIGINT NOT NULL AUTO_INCREMENT,
+    reply_id BIGINT,
+    user_id  BIGINT,
+    `option` VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reply_reaction_reply FOREIGN KEY (reply_id) REFERENCES reply (reply_id),
+    CONSTRAINT fk_reply_reaction_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS translated_debate (
+    translation_debate_id BIGINT NOT NULL AUTO_INCREMENT,
+    debate_id             BIGINT,
+    title                 VARCHAR(255),
+    content               TEXT,
+    language              VARCHAR(255),
+    PRIMARY KEY (translation_debate_id),
+    CONSTRAINT fk_translated_debate_debate FOREIGN KEY (debate_id) REFERENCES debate (debate_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS translated_comment (
+    translation_comment_id BIGINT NOT NULL AUTO_INCREMENT,
+    comment_id             BIGINT,
+    content                TEXT,
+    language               VARCHAR(255),
+    PRIMARY KEY (translation_comment_id),
+    CONSTRAINT fk_translated_comment_comment FOREIGN KEY (comment_id) REFERENCES comment (comment_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS translated_reply (
+    translation_reply_id BIGINT NOT NULL AUTO_INCREMENT,
+    reply_id             BIGINT,
+    content              TEXT,
+    language             VARCHAR(255),
+    PRIMARY KEY (translation_reply_id),
+    CONSTRAINT fk_translated_reply_reply FOREIGN KEY (reply_id) REFERENCES reply (reply_id)
+) ENGINE = InnoDB;
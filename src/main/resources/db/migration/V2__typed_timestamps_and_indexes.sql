@@ -0,0 +1,61 @@
+-- created_at: LocalDateTime.toString() 문자열 -> DATETIME(6)
+-- toString 은 초/나노초가 0 이면 생략하고 나노초는 9자리까지 나오므로, 마이크로초(26자)까지 잘라서 변환한다.
+ALTER TABLE debate ADD COLUMN created_at_dt DATETIME(6) NULL;
+UPDATE debate SET created_at_dt = CAST(REPLACE(LEFT(created_at, 26), 'T', ' ') AS DATETIME(6)) WHERE created_at IS NOT NULL;
+ALTER TABLE debate DROP COLUMN created_at;
+ALTER TABLE debate RENAME COLUMN created_at_dt TO created_at;
+
+ALTER TABLE comment ADD COLUMN created_at_dt DATETIME(6) NULL;
+UPDATE comment SET created_at_dt = CAST(REPLACE(LEFT(created_at, 26), 'T', ' ') AS DATETIME(6)) WHERE created_at IS NOT NULL;
+ALTER TABLE comment DROP COLUMN created_at;
+ALTER TABLE comment RENAME COLUMN created_at_dt TO created_at;
+
+ALTER TABLE reply ADD COLUMN created_at_dt DATETIME(6) NULL;
+UPDATE reply SET created_at_dt = CAST(REPLACE(LEFT(created_at, 26), 'T', ' ') AS DATETIME(6)) WHERE created_at IS NOT NULL;
+ALTER TABLE reply DROP COLUMN created_at;
+ALTER TABLE reply RENAME COLUMN created_at_dt TO created_at;
+
+-- 목록/기간 조회
+CREATE INDEX idx_debate_created_at ON debate (created_at);
+CREATE INDEX idx_debate_category_created_at ON debate (category, created_at);
+CREATE INDEX idx_comment_debate_created_at ON comment (debate_id, created_at);
+CREATE INDEX idx_reply_comment_created_at ON reply (comment_id, created_at);
+
+-- 유니크 제약 전에 중복 행 정리 (투표/감정표현은 먼저 남긴 것, 번역은 마지막에 저장된 것을 남긴다)
+-- 중복 투표가 있던 토론은 지운 뒤 vote_cnt/agree_cnt/disagree_cnt 를 vote 테이블 기준으로 다시 센다
+CREATE TEMPORARY TABLE vote_dup_debate AS
+    SELECT DISTINCT a.debate_id FROM vote a JOIN vote b
+        ON a.debate_id = b.debate_id AND a.user_id = b.user_id AND a.vote_id > b.vote_id;
+DELETE a FROM vote a JOIN vote b
+    ON a.debate_id = b.debate_id AND a.user_id = b.user_id AND a.vote_id > b.vote_id;
+UPDATE debate d
+    JOIN vote_dup_debate x ON x.debate_id = d.debate_id
+    JOIN (SELECT v.debate_id,
+                 COUNT(*) AS cnt,
+                 SUM(v.`option` = '찬성') AS agree,
+                 SUM(v.`option` = '반대') AS disagree
+          FROM vote v JOIN vote_dup_debate y ON y.debate_id = v.debate_id
+          GROUP BY v.debate_id) c ON c.debate_id = d.debate_id
+SET d.vote_cnt = c.cnt, d.agree_cnt = c.agree, d.disagree_cnt = c.disagree;
+DROP TEMPORARY TABLE vote_dup_debate;
+DELETE a FROM debate_reaction a JOIN debate_reaction b
+    ON a.debate_id = b.debate_id AND a.user_id = b.user_id AND a.id > b.id;
+DELETE a FROM comment_reaction a JOIN comment_reaction b
+    ON a.comment_id = b.comment_id AND a.user_id = b.user_id AND a.id > b.id;
+DELETE a FROM reply_reaction a JOIN reply_reaction b
+    ON a.reply_id = b.reply_id AND a.user_id = b.user_id AND a.id > b.id;
+DELETE a FROM translated_debate a JOIN translated_debate b
+    ON a.debate_id = b.debate_id AND a.language = b.language AND a.translation_debate_id < b.translation_debate_id;
+DELETE a FROM translated_comment a JOIN translated_comment b
+    ON a.comment_id = b.comment_id AND a.language = b.language AND a.translation_comment_id < b.translation_comment_id;
+DELETE a FROM translated_reply a JOIN translated_reply b
+    ON a.reply_id = b.reply_id AND a.language = b.language AND a.translation_reply_id < b.translation_reply_id;
+
+-- (대상, 유저) / (대상, 언어) 단건 조회 + 중복 방지
+ALTER TABLE vote ADD CONSTRAINT uk_vote_debate_user UNIQUE (debate_id, user_id);
+ALTER TABLE debate_reaction ADD CONSTRAINT uk_debate_reaction_debate_user UNIQUE (debate_id, user_id);
+ALTER TABLE comment_reaction ADD CONSTRAINT uk_comment_reaction_comment_user UNIQUE (comment_id, user_id);
+ALTER TABLE reply_reaction ADD CONSTRAINT uk_reply_reaction_reply_user UNIQUE (reply_id, user_id);
+ALTER TABLE translated_debate ADD CONSTRAINT uk_translated_debate_debate_language UNIQUE (debate_id, language);
+ALTER TABLE translated_comment ADD CONSTRAINT uk_translated_comment_comment_language UNIQUE (comment_id, language);
+ALTER TABLE translated_reply ADD CONSTRAINT uk_translated_reply_reply_language UNIQUE (reply_id, language);
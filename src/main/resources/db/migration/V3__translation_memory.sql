@@ -0,0 +1,11 @@
+CREATE TABLE translation_memory (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    source_lang     VARCHAR(8),
+    target_lang     VARCHAR(8),
+    text_hash       VARCHAR(64),
+    translated_text TEXT,
+    created_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_translation_memory_key UNIQUE (source_lang, text_hash, target_lang),
+    INDEX idx_translation_memory_created_at (created_at)
+) ENGINE = InnoDB;
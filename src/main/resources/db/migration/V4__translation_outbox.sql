@@ -0,0 +1,16 @@
+CREATE TABLE translation_outbox (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    aggregate_type  VARCHAR(16),
+    aggregate_id    BIGINT,
+    edit            BIT(1)       NOT NULL,
+    payload         TEXT,
+    status          VARCHAR(16),
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6),
+    locked_at       DATETIME(6),
+    last_error      VARCHAR(1000),
+    created_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_translation_outbox_claim (status, next_attempt_at),
+    INDEX idx_translation_outbox_aggregate (aggregate_type, aggregate_id, status)
+) ENGINE = InnoDB;
@@ -0,0 +1,8 @@
+-- 지연 번역 모드: 원문 언어를 글에 기록. 기존 글은 모든 언어 번역이 있으므로 NULL 로 둔다
+ALTER TABLE comment ADD COLUMN source_language VARCHAR(8);
+ALTER TABLE reply ADD COLUMN source_language VARCHAR(8);
+
+-- 번역 작업 우선순위 (토론 > 댓글 > 답글 > 수정)
+ALTER TABLE translation_outbox ADD COLUMN priority INT NOT NULL DEFAULT 0;
+DROP INDEX idx_translation_outbox_claim ON translation_outbox;
+CREATE INDEX idx_translation_outbox_claim ON translation_outbox (status, priority, next_attempt_at);
@@ -0,0 +1,25 @@
+-- 감정표현 집계 컬럼 (ReactionCountService) 과 국가별 투표 히스토그램 (VoteStatService).
+-- 엔티티에는 먼저 들어갔지만 운영 DB 는 Hibernate 가 스키마를 만들지 않으므로 여기서 추가한다.
+ALTER TABLE debate
+    ADD COLUMN like_cnt    BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN dislike_cnt BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN sad_cnt     BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN angry_cnt   BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN hm_cnt      BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE comment
+    ADD COLUMN dislike_cnt BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE reply
+    ADD COLUMN heart       BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN dislike_cnt BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE nation_vote_stat (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    debate_id   BIGINT,
+    nation      VARCHAR(255),
+    vote_option VARCHAR(255),
+    cnt         BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_nation_vote_stat UNIQUE (debate_id, nation, vote_option)
+) ENGINE = InnoDB;
@@ -0,0 +1,26 @@
+-- V6 에서 추가한 감정표현 집계 컬럼을 reaction 테이블 기준으로 한 번 채운다.
+-- 기동 전에 한 번만 실행되므로 CounterBuffer 에 쌓인 증분과 겹치지 않는다. 반응이 없는 행은 기본값 0 그대로 둔다.
+UPDATE debate d
+    JOIN (SELECT debate_id,
+                 SUM(`option` = '좋아요') AS like_cnt,
+                 SUM(`option` = '싫어요') AS dislike_cnt,
+                 SUM(`option` = '슬퍼요') AS sad_cnt,
+                 SUM(`option` = '화나요') AS angry_cnt,
+                 SUM(`option` = '글쎄요') AS hm_cnt
+          FROM debate_reaction GROUP BY debate_id) r ON r.debate_id = d.debate_id
+SET d.like_cnt = r.like_cnt, d.dislike_cnt = r.dislike_cnt, d.sad_cnt = r.sad_cnt,
+    d.angry_cnt = r.angry_cnt, d.hm_cnt = r.hm_cnt;
+
+UPDATE comment c
+    JOIN (SELECT comment_id,
+                 SUM(`option` = '좋아요') AS heart,
+                 SUM(`option` = '싫어요') AS dislike_cnt
+          FROM comment_reaction GROUP BY comment_id) r ON r.comment_id = c.comment_id
+SET c.heart = r.heart, c.dislike_cnt = r.dislike_cnt;
+
+UPDATE reply p
+    JOIN (SELECT reply_id,
+                 SUM(`option` = '좋아요') AS heart,
+                 SUM(`option` = '싫어요') AS dislike_cnt
+          FROM reply_reaction GROUP BY reply_id) r ON r.reply_id = p.reply_id
+SET p.heart = r.heart, p.dislike_cnt = r.dislike_cnt;
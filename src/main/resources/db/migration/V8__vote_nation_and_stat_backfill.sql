@@ -0,0 +1,11 @@
+-- 투표 당시 국가를 vote 에 저장한다. 취소할 때 현재 국가가 아니라 이 값으로 nation_vote_stat 을 뺀다.
+ALTER TABLE vote ADD COLUMN nation VARCHAR(255);
+
+UPDATE vote v JOIN `user` u ON u.user_id = v.user_id
+SET v.nation = u.nation;
+
+-- 기존 투표로 국가별 히스토그램을 한 번 채운다 (이후는 reactToVote 증감 + 야간 재집계)
+DELETE FROM nation_vote_stat;
+INSERT INTO nation_vote_stat (debate_id, nation, vote_option, cnt)
+SELECT debate_id, nation, `option`, COUNT(*) FROM vote
+GROUP BY debate_id, nation, `option`;
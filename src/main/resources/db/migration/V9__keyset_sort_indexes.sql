@@ -0,0 +1,11 @@
+-- 커서 페이지네이션(KeysetSort)의 정렬별 인덱스. (필터, 정렬 컬럼, id) 순서라 다음 페이지도 인덱스 범위 읽기로 끝난다.
+-- '전체' 카테고리는 category 조건 없이 조회하므로 (정렬 컬럼, id) 인덱스를 따로 둔다.
+-- 최신순은 V2 의 (category, created_at), (created_at) 인덱스를 쓴다 (InnoDB 보조 인덱스 끝에 PK 가 붙는다).
+CREATE INDEX idx_debate_views ON debate (views, debate_id);
+CREATE INDEX idx_debate_comment_cnt ON debate (comment_cnt, debate_id);
+CREATE INDEX idx_debate_vote_cnt ON debate (vote_cnt, debate_id);
+CREATE INDEX idx_debate_category_views ON debate (category, views, debate_id);
+CREATE INDEX idx_debate_category_comment_cnt ON debate (category, comment_cnt, debate_id);
+CREATE INDEX idx_debate_category_vote_cnt ON debate (category, vote_cnt, debate_id);
+
+CREATE INDEX idx_comment_debate_heart ON comment (debate_id, heart, comment_id);
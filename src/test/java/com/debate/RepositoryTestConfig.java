@@ -0,0 +1,12 @@
+package com.debate;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+// @DataJpaTest 용 설정. DebateApplication 의 @ComponentScan 이 서비스/카프카 빈까지 올리는 것을 피한다.
+@Configuration
+@EntityScan("com.debate.entity")
+@EnableJpaRepositories("com.debate.repository")
+public class RepositoryTestConfig {
+}
@@ -0,0 +1,36 @@
+package com.debate;
+
+import com.debate.entity.Comment;
+import com.debate.entity.Debate;
+import com.debate.entity.User;
+
+/**
+ * @DataJpaTest 들이 같이 쓰는 엔티티 생성 함수. 집계 컬럼은 0 으로 채운다.
+ */
+public final class TestFixtures {
+    private TestFixtures() {
+    }
+
+    public static User user(long userId, String nation, String language) {
+        return User.builder()
+                .userId(userId)
+                .name("user" + userId)
+                .nation(nation)
+                .language(language)
+                .role("ROLE_USER")
+                .ban(0)
+                .build();
+    }
+
+    public static Debate debate() {
+        return Debate.builder()
+                .category("정치")
+                .views(0L).voteCnt(0L).commentCnt(0L).agreeCnt(0L).disagreeCnt(0L)
+                .build();
+    }
+
+    public static Comment comment(Debate debate, User user) {
+        return Comment.builder()
+                .debate(debate).user(user).replyCnt(0L).heart(0L).build();
+    }
+}
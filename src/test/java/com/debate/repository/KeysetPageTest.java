@@ -0,0 +1,97 @@
+package com.debate.repository;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.entity.Debate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+class KeysetPageTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DebateRepository debateRepository;
+
+    @Test
+    void keysetPagesMatchOffsetOrderEvenWithTies() {
+        seed();
+
+        List<Long> expected = debateRepository.findByCategory("정치", PageRequest.of(0, 100,
+                        Sort.by(Sort.Direction.DESC, "views").and(Sort.by(Sort.Direction.DESC, "debateId"))))
+                .getContent().stream().map(Debate::getDebateId).toList();
+
+        assertThat(walk("정치", KeysetSort.DEBATE_VIEW, Debate::getViews)).isEqualTo(expected);
+        assertThat(debateRepository.countByCategory("전체")).isEqualTo(37);
+    }
+
+    @Test
+    void allCategoriesPageWithoutCategoryFilter() {
+        seed();
+
+        List<Long> expected = debateRepository.findAll(
+                        Sort.by(Sort.Direction.DESC, "voteCnt").and(Sort.by(Sort.Direction.DESC, "debateId")))
+                .stream().map(Debate::getDebateId).toList();
+
+        assertThat(expected).hasSize(37);
+        assertThat(walk("전체", KeysetSort.DEBATE_VOTE, Debate::getVoteCnt)).isEqualTo(expected);
+    }
+
+    private void seed() {
+        for (int i = 0; i < 37; i++) {
+            em.persist(Debate.builder()
+                    .category(i % 4 == 0 ? "경제" : "정치")
+                    .views((long) (i % 5)) // 같은 조회수가 페이지 경계에 걸치도록
+                    .voteCnt((long) (i % 3))
+                    .commentCnt(0L).agreeCnt(0L).disagreeCnt(0L)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private List<Long> walk(String category, KeysetSort sort, Function<Debate, Object> key) {
+        List<Long> walked = new ArrayList<>();
+        Object lastValue = null;
+        Long lastId = null;
+        while (true) {
+            List<Debate> page = debateRepository.findKeysetPage(category, sort, lastValue, lastId, 7);
+            if (page.isEmpty()) break;
+            page.forEach(debate -> walked.add(debate.getDebateId()));
+
+            // 커서 왕복
+            Debate last = page.get(page.size() - 1);
+            Object[] position = sort.decodeCursor(sort.encodeCursor(key.apply(last), last.getDebateId()));
+            lastValue = position[0];
+            lastId = (Long) position[1];
+        }
+        return walked;
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String cursor = KeysetSort.DEBATE_VIEW.encodeCursor(3L, 10L);
+
+        assertThatThrownBy(() -> KeysetSort.DEBATE_VOTE.decodeCursor(cursor))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KeysetSort.DEBATE_VIEW.decodeCursor("not-a-cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
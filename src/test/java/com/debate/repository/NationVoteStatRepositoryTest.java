@@ -0,0 +1,80 @@
+package com.debate.repository;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.TestFixtures;
+import com.debate.entity.Debate;
+import com.debate.entity.User;
+import com.debate.entity.Vote;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+class NationVoteStatRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private NationVoteStatRepository nationVoteStatRepository;
+
+    @Test
+    void addCountAccumulatesAndNeverGoesBelowZero() {
+        nationVoteStatRepository.addCount(1L, "KR", "찬성", 1);
+        nationVoteStatRepository.addCount(1L, "KR", "찬성", 1);
+        nationVoteStatRepository.addCount(1L, "KR", "반대", 1);
+        nationVoteStatRepository.addCount(1L, "US", "찬성", 1);
+        nationVoteStatRepository.addCount(1L, "US", "찬성", -1);
+        nationVoteStatRepository.addCount(1L, "US", "찬성", -1); // 이미 0
+        nationVoteStatRepository.addCount(1L, "JP", "반대", -1); // 없는 칸을 빼도 음수로 만들지 않는다
+        nationVoteStatRepository.addCount(2L, "KR", "찬성", 1);
+
+        assertThat(counts(1L)).containsOnly(Map.entry("KR", 3L), Map.entry("US", 0L), Map.entry("JP", 0L));
+        assertThat(counts(2L)).containsOnly(Map.entry("KR", 1L));
+    }
+
+    @Test
+    void recountUsesNationStoredOnVote() {
+        Debate debate = em.persist(TestFixtures.debate());
+        for (int i = 0; i < 5; i++) {
+            User user = em.persist(TestFixtures.user(i + 1, "US", "KO")); // 투표 후 국가를 바꾼 유저
+            em.persist(Vote.builder().debate(debate).user(user)
+                    .option(i < 3 ? "찬성" : "반대")
+                    .nation(i < 4 ? "KR" : "JP")
+                    .build());
+        }
+        nationVoteStatRepository.addCount(debate.getDebateId(), "KR", "찬성", 42); // 어긋난 값
+        em.flush();
+
+        nationVoteStatRepository.deleteByDebateId(debate.getDebateId());
+        nationVoteStatRepository.recountFromVotes(debate.getDebateId());
+
+        assertThat(counts(debate.getDebateId())).containsOnly(Map.entry("KR", 4L), Map.entry("JP", 1L));
+        assertThat(nationVoteStatRepository.findAll())
+                .filteredOn(stat -> stat.getNation().equals("KR") && stat.getOption().equals("찬성"))
+                .singleElement()
+                .satisfies(stat -> assertThat(stat.getCnt()).isEqualTo(3L));
+    }
+
+    private Map<String, Long> counts(Long debateId) {
+        em.clear();
+        Map<String, Long> counts = new HashMap<>();
+        List<Object[]> rows = nationVoteStatRepository.sumByNation(debateId);
+        for (Object[] row : rows) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
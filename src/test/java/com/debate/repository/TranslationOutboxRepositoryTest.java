@@ -0,0 +1,189 @@
+package com.debate.repository;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.entity.TranslationOutbox;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+class TranslationOutboxRepositoryTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TranslationOutboxRepository outboxRepository;
+
+    @Test
+    void laterJobOfSameAggregateWaitsForEarlierOne() {
+        LocalDateTime now = LocalDateTime.now();
+        TranslationOutbox create = em.persist(job("comment", 1L, false, TranslationOutbox.PENDING, now.minusSeconds(5)));
+        TranslationOutbox edit = em.persist(job("comment", 1L, true, TranslationOutbox.PENDING, now.minusSeconds(5)));
+        TranslationOutbox other = em.persist(job("reply", 7L, false, TranslationOutbox.PENDING, now.minusSeconds(5)));
+        em.persist(job("debate", 3L, false, TranslationOutbox.PENDING, now.plusMinutes(1))); // 백오프 중
+        em.flush();
+
+        List<Long> claimed = outboxRepository.lockClaimable(now, 10);
+        assertThat(claimed).containsExactly(create.getId(), other.getId());
+
+        outboxRepository.markProcessing(claimed, now);
+        em.clear();
+        // 작성 작업이 처리 중인 동안에도 수정 작업은 대기
+        assertThat(outboxRepository.lockClaimable(now, 10)).isEmpty();
+
+        outboxRepository.deleteById(create.getId());
+        em.flush();
+        assertThat(outboxRepository.lockClaimable(now, 10)).containsExactly(edit.getId());
+    }
+
+    @Test
+    void expiredLeaseIsReleasedAndFailedJobsAreNotClaimed() {
+        LocalDateTime now = LocalDateTime.now();
+        TranslationOutbox stuck = job("debate", 1L, false, TranslationOutbox.PROCESSING, now.minusMinutes(20));
+        stuck.setLockedAt(now.minusMinutes(10));
+        em.persist(stuck);
+        TranslationOutbox running = job("debate", 2L, false, TranslationOutbox.PROCESSING, now.minusMinutes(1));
+        running.setLockedAt(now.minusSeconds(30));
+        em.persist(running);
+        em.persist(job("debate", 3L, false, TranslationOutbox.FAILED, now.minusMinutes(1)));
+        em.flush();
+
+        assertThat(outboxRepository.releaseExpired(now.minusMinutes(5))).isEqualTo(1);
+        em.clear();
+
+        assertThat(outboxRepository.lockClaimable(now, 10)).containsExactly(stuck.getId());
+        assertThat(outboxRepository.countByStatus(TranslationOutbox.FAILED)).isEqualTo(1);
+    }
+
+    @Test
+    void onlyOneConsumerCanStartARun() {
+        LocalDateTime now = LocalDateTime.now();
+        TranslationOutbox dispatched = job("comment", 1L, false, TranslationOutbox.PROCESSING, now.minusMinutes(1));
+        dispatched.setAttempts(1);
+        dispatched.setLockedAt(now.minusMinutes(1));
+        em.persist(dispatched);
+        em.persist(job("comment", 1L, true, TranslationOutbox.PENDING, now.minusMinutes(1)));
+        em.flush();
+
+        assertThat(outboxRepository.startRun(dispatched.getId(), 2, now)).isZero(); // 이전 시도의 메시지
+        assertThat(outboxRepository.startRun(dispatched.getId(), 1, now)).isEqualTo(1);
+        assertThat(outboxRepository.startRun(dispatched.getId(), 1, now)).isZero();  // 재전달된 같은 메시지
+        em.clear();
+        assertThat(outboxRepository.findById(dispatched.getId())).get()
+                .extracting(TranslationOutbox::getStatus).isEqualTo(TranslationOutbox.RUNNING);
+
+        // 실행 중에도 같은 글의 수정 작업은 기다리고, lease 가 지나면 다시 대기 상태로 돌아간다
+        assertThat(outboxRepository.lockClaimable(now, 10)).isEmpty();
+        assertThat(outboxRepository.releaseExpired(now.plusMinutes(1))).isEqualTo(1);
+        em.clear();
+        assertThat(outboxRepository.lockClaimable(now, 10)).containsExactly(dispatched.getId());
+    }
+
+    @Test
+    void leaseExpiryOfUnstartedJobDoesNotCountAsAttempt() {
+        LocalDateTime now = LocalDateTime.now();
+        TranslationOutbox waiting = job("reply", 1L, false, TranslationOutbox.PROCESSING, now.minusMinutes(30));
+        waiting.setAttempts(3);
+        waiting.setLockedAt(now.minusMinutes(20));
+        em.persist(waiting);
+        TranslationOutbox crashed = job("reply", 2L, false, TranslationOutbox.RUNNING, now.minusMinutes(30));
+        crashed.setAttempts(3);
+        crashed.setLockedAt(now.minusMinutes(20));
+        em.persist(crashed);
+        em.flush();
+
+        assertThat(outboxRepository.releaseExpired(now.minusMinutes(15))).isEqualTo(2);
+        outboxRepository.markProcessing(List.of(waiting.getId(), crashed.getId()), now);
+        em.clear();
+
+        // 카프카에서 기다리기만 한 작업은 그대로, 실행 중에 끊긴 작업은 한 번 더 센다
+        assertThat(outboxRepository.findById(waiting.getId())).get()
+                .extracting(TranslationOutbox::getAttempts).isEqualTo(3);
+        assertThat(outboxRepository.findById(crashed.getId())).get()
+                .extracting(TranslationOutbox::getAttempts).isEqualTo(4);
+    }
+
+    @Test
+    void failedJobCanBeRequeued() {
+        LocalDateTime now = LocalDateTime.now();
+        TranslationOutbox failed = job("comment", 1L, false, TranslationOutbox.FAILED, now.minusHours(1));
+        failed.setAttempts(6);
+        failed.setLastError("IllegalStateException: comment translation failed");
+        em.persist(failed);
+        TranslationOutbox other = em.persist(job("comment", 2L, false, TranslationOutbox.FAILED, now.minusHours(1)));
+        em.flush();
+
+        assertThat(outboxRepository.requeueFailed(failed.getId(), now)).isEqualTo(1);
+        em.clear();
+
+        assertThat(outboxRepository.lockClaimable(now, 10)).containsExactly(failed.getId());
+        assertThat(outboxRepository.findById(failed.getId())).get()
+                .satisfies(row -> {
+                    assertThat(row.getAttempts()).isZero();
+                    assertThat(row.getLastError()).isNotNull(); // 원인은 남겨 둔다
+                });
+        assertThat(outboxRepository.requeueFailed(null, now)).isEqualTo(1);
+        em.clear();
+        assertThat(outboxRepository.lockClaimable(now, 10)).containsExactly(failed.getId(), other.getId());
+    }
+
+    @Test
+    void purgeDeletesOnlyOldFailedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        em.persist(job("comment", 1L, false, TranslationOutbox.FAILED, now.minusDays(40)));
+        TranslationOutbox recentFailure = em.persist(job("comment", 2L, false, TranslationOutbox.FAILED, now.minusDays(1)));
+        TranslationOutbox oldPending = em.persist(job("debate", 3L, false, TranslationOutbox.PENDING, now.minusDays(40)));
+        em.flush();
+
+        assertThat(outboxRepository.deleteFailedBefore(now.minusDays(30))).isEqualTo(1);
+        em.clear();
+        assertThat(outboxRepository.findAll()).extracting(TranslationOutbox::getId)
+                .containsExactlyInAnyOrder(recentFailure.getId(), oldPending.getId());
+    }
+
+    @Test
+    void summarizesDepthAndOldestJobPerType() {
+        LocalDateTime now = LocalDateTime.now();
+        em.persist(job("comment", 1L, false, TranslationOutbox.PENDING, now.minusMinutes(3)));
+        em.persist(job("comment", 2L, false, TranslationOutbox.PENDING, now.minusMinutes(1)));
+        em.persist(job("comment", 3L, false, TranslationOutbox.FAILED, now.minusMinutes(9)));
+        em.persist(job("debate", 4L, false, TranslationOutbox.PROCESSING, now));
+        em.flush();
+
+        Map<String, Object[]> rows = new HashMap<>();
+        for (Object[] row : outboxRepository.summarize()) {
+            rows.put(row[0] + ":" + row[1], row);
+        }
+
+        assertThat(rows).containsOnlyKeys("comment:PENDING", "comment:FAILED", "debate:PROCESSING");
+        assertThat(rows.get("comment:PENDING")[2]).isEqualTo(2L);
+        assertThat((LocalDateTime) rows.get("comment:PENDING")[3]).isEqualToIgnoringNanos(now.minusMinutes(3));
+    }
+
+    private static TranslationOutbox job(String type, Long id, boolean edit, String status, LocalDateTime nextAttemptAt) {
+        return TranslationOutbox.builder()
+                .aggregateType(type)
+                .aggregateId(id)
+                .edit(edit)
+                .payload("{}")
+                .status(status)
+                .attempts(0)
+                .nextAttemptAt(nextAttemptAt)
+                .createdAt(nextAttemptAt)
+                .build();
+    }
+}
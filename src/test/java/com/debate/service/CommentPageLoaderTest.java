@@ -0,0 +1,85 @@
+package com.debate.service;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.TestFixtures;
+import com.debate.dto.CommentResDto;
+import com.debate.entity.*;
+import com.debate.repository.CommentRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import util.CounterBuffer;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+@Import({CommentPageLoader.class, CounterBuffer.class})
+class CommentPageLoaderTest {
+    @MockitoBean
+    private LazyTranslator lazyTranslator; // 지연 번역은 LazyTranslatorTest 에서 따로 본다
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentPageLoader commentPageLoader;
+
+    @Test
+    void fiftyCommentPageUsesConstantRoundTrips() {
+        User viewer = em.persist(TestFixtures.user(1000L, "KR", "EN"));
+        Debate debate = em.persist(TestFixtures.debate());
+
+        for (int i = 0; i < 50; i++) {
+            User author = em.persist(TestFixtures.user(i + 1, i % 2 == 0 ? "KR" : "US", "EN"));
+            Comment comment = em.persist(TestFixtures.comment(debate, author));
+            em.persist(TranslatedComment.builder()
+                    .comment(comment).language("EN").content("comment-" + i).build());
+            em.persist(Vote.builder().debate(debate).user(author).option(i % 2 == 0 ? "찬성" : "반대").build());
+            if (i % 5 == 0) {
+                em.persist(CommentReaction.builder().comment(comment).user(viewer).option("좋아요").build());
+            }
+        }
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<Comment> page = commentRepository.findByDebate_DebateId(debate.getDebateId(),
+                PageRequest.of(0, 50, Sort.by(Sort.Direction.ASC, "createdAt")));
+        List<CommentResDto> dtoList = commentPageLoader.load(
+                page.getContent(), debate.getDebateId(), viewer.getUserId(), "EN");
+
+        // 페이지 조회 + count + 번역/감정표현/투표 각 1회
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        assertThat(dtoList).hasSize(50);
+        assertThat(dtoList).allSatisfy(dto -> {
+            assertThat(dto.getContent()).startsWith("comment-");
+            assertThat(dto.getVoteState()).isNotNull();
+        });
+        assertThat(dtoList).filteredOn(dto -> "좋아요".equals(dto.getIsState())).hasSize(10);
+    }
+}
@@ -0,0 +1,109 @@
+package com.debate.service;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.TestFixtures;
+import com.debate.dto.DebateResDto;
+import com.debate.entity.Debate;
+import com.debate.entity.NationVoteStat;
+import com.debate.entity.TranslatedDebate;
+import com.debate.entity.User;
+import com.debate.entity.Vote;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import util.CounterBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+@Import({DebateDtoAssembler.class, VoteStatService.class, CounterBuffer.class})
+class DebateDtoAssemblerTest {
+    private static final String[] LANGUAGES = {"KO", "EN", "JA", "ZH", "DE", "FR", "ES", "RU"};
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DebateDtoAssembler debateDtoAssembler;
+
+    @Test
+    void pageIsAssembledWithConstantQueryCount() {
+        List<Debate> page = seed(20, 30);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<DebateResDto> dtoList = debateDtoAssembler.toDtoList(page, "EN");
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(dtoList).hasSize(20);
+        assertThat(dtoList.get(0).getTitle()).isEqualTo("title-EN-" + page.get(0).getDebateId());
+        assertThat(dtoList.get(0).getNation()).isEqualTo("KR");
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithPageSize() {
+        List<Debate> page = seed(50, 5);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        debateDtoAssembler.toDtoList(page.subList(0, 5), "KO");
+        long smallPage = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        debateDtoAssembler.toDtoList(page, "KO");
+        long largePage = statistics.getPrepareStatementCount();
+
+        assertThat(largePage).isEqualTo(smallPage);
+    }
+
+    private List<Debate> seed(int debateCount, int votesPerDebate) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < votesPerDebate; i++) {
+            users.add(em.persist(TestFixtures.user(i + 1, i % 3 == 2 ? "US" : "KR", "KO"))); // KR 이 최다 국가
+        }
+
+        List<Debate> debates = new ArrayList<>();
+        for (int d = 0; d < debateCount; d++) {
+            Debate debate = em.persist(TestFixtures.debate());
+            for (String language : LANGUAGES) {
+                em.persist(TranslatedDebate.builder()
+                        .debate(debate)
+                        .language(language)
+                        .title("title-" + language + "-" + debate.getDebateId())
+                        .content("content")
+                        .build());
+            }
+            for (User user : users) {
+                em.persist(Vote.builder().debate(debate).user(user).option("찬성").nation(user.getNation()).build());
+            }
+            long us = users.stream().filter(user -> user.getNation().equals("US")).count();
+            em.persist(NationVoteStat.builder().debateId(debate.getDebateId())
+                    .nation("KR").option("찬성").cnt(users.size() - us).build());
+            em.persist(NationVoteStat.builder().debateId(debate.getDebateId())
+                    .nation("US").option("찬성").cnt(us).build());
+            debates.add(debate);
+        }
+        em.flush();
+        em.clear();
+        return debates;
+    }
+}
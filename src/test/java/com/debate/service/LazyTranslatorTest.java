@@ -0,0 +1,79 @@
+package com.debate.service;
+
+import com.debate.entity.TranslatedComment;
+import com.debate.repository.CommentRepository;
+import com.debate.repository.ReplyRepository;
+import com.debate.repository.TranslatedCommentRepository;
+import com.debate.repository.TranslatedReplyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LazyTranslatorTest {
+    private final TranslatedCommentRepository translatedCommentRepository = mock(TranslatedCommentRepository.class);
+    private final TranslationService translationService = mock(TranslationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LazyTranslator lazyTranslator;
+
+    @BeforeEach
+    void setUp() {
+        lazyTranslator = new LazyTranslator(translatedCommentRepository, mock(TranslatedReplyRepository.class),
+                mock(CommentRepository.class), mock(ReplyRepository.class), translationService,
+                meterRegistry, Duration.ofMillis(50));
+        List<Object[]> sourceRows = new ArrayList<>();
+        sourceRows.add(new Object[]{1L, "KO", "안녕하세요"});
+        when(translatedCommentRepository.findSourceContents(any())).thenReturn(sourceRows);
+        when(translatedCommentRepository.findByComment_CommentIdAndLanguage(1L, "KO"))
+                .thenReturn(TranslatedComment.builder().language("KO").content("안녕하세요").build());
+    }
+
+    @Test
+    void concurrentReadersShareOneTranslationAndGetSourceUntilItIsDone() throws Exception {
+        CompletableFuture<Optional<String>> pending = new CompletableFuture<>();
+        when(translationService.translateAsync("안녕하세요", "KO", "EN")).thenReturn(pending);
+
+        ExecutorService readers = Executors.newFixedThreadPool(8);
+        List<Future<Map<Long, String>>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(readers.submit(() -> lazyTranslator.commentContents(List.of(1L), "EN")));
+        }
+        for (Future<Map<Long, String>> result : results) {
+            assertThat(result.get()).containsEntry(1L, "안녕하세요"); // 아직 번역 중이라 원문
+        }
+        readers.shutdown();
+        verify(translationService, times(1)).translateAsync("안녕하세요", "KO", "EN");
+
+        pending.complete(Optional.of("Hello"));
+        verify(translatedCommentRepository).save(argThat(saved ->
+                "EN".equals(saved.getLanguage()) && "Hello".equals(saved.getContent())));
+
+        // 다음 조회는 새 요청 (번역 메모리/저장된 행에서 바로 나온다고 가정)
+        when(translationService.translateAsync("안녕하세요", "KO", "EN"))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of("Hello")));
+        assertThat(lazyTranslator.commentContents(List.of(1L), "EN")).containsEntry(1L, "Hello");
+    }
+
+    @Test
+    void quotaErrorFallsBackToSourceText() {
+        when(translationService.translateAsync("안녕하세요", "KO", "JA"))
+                .thenReturn(CompletableFuture.failedFuture(new TranslationQuotaException("quota")));
+
+        assertThat(lazyTranslator.commentContents(List.of(1L), "JA")).containsEntry(1L, "안녕하세요");
+        verify(translatedCommentRepository, never()).save(any());
+        assertThat(meterRegistry.counter("translation.lazy.fallbacks").count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,100 @@
+package com.debate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PreferenceCacheTest {
+    private HttpServer server;
+    private ThreadPoolTaskExecutor executor;
+    private final AtomicReference<String> preferences = new AtomicReference<>("{\"정치\":0.95,\"경제\":0.05}");
+    private final AtomicLong delayMs = new AtomicLong();
+    private final AtomicInteger hits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // AI 서버 대역: delayMs 만큼 늦게 현재 preferences 를 돌려준다
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/user", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMs.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = ("{\"discussion_preferences\":" + preferences.get() + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private PreferenceCache cache(Duration refreshAfter, Duration wait) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort();
+        return new PreferenceCache(new RestTemplate(), executor, new ObjectMapper(), new SimpleMeterRegistry(),
+                url, 100, Duration.ofHours(1), refreshAfter, wait);
+    }
+
+    @Test
+    void slowUpstreamFallsBackWithinWaitAndFillsCacheLater() throws Exception {
+        delayMs.set(1000);
+        PreferenceCache cache = cache(Duration.ofMinutes(10), Duration.ofMillis(100));
+
+        long start = System.nanoTime();
+        assertThat(cache.get(1L, "token")).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(500));
+
+        Thread.sleep(1500); // 받아 오던 요청은 계속 진행된다
+        assertThat(cache.get(1L, "token")).contains(Map.of("정치", 0.95, "경제", 0.05));
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    void staleValueIsServedWhileRefreshing() throws Exception {
+        PreferenceCache cache = cache(Duration.ZERO, Duration.ofSeconds(2));
+        assertThat(cache.get(1L, "token")).contains(Map.of("정치", 0.95, "경제", 0.05));
+
+        preferences.set("{\"경제\":1.0}");
+        delayMs.set(300);
+        long start = System.nanoTime();
+        Optional<Map<String, Double>> stale = cache.get(1L, "token");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(200));
+        assertThat(stale).contains(Map.of("정치", 0.95, "경제", 0.05));
+
+        Thread.sleep(800);
+        assertThat(cache.get(1L, "token")).contains(Map.of("경제", 1.0));
+    }
+}
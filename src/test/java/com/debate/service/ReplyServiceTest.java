@@ -0,0 +1,164 @@
+package com.debate.service;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.TestFixtures;
+import com.debate.dto.ReplyResDto;
+import com.debate.entity.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.ResponseEntity;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import util.CounterBuffer;
+import util.PrincipalResolver;
+import util.TranslationQueue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+@Import({ReplyService.class, ReplyPageLoader.class})
+class ReplyServiceTest {
+    private static final String TOKEN = "token";
+
+    @MockitoBean
+    private PrincipalResolver principalResolver;
+
+    @MockitoBean
+    private LazyTranslator lazyTranslator; // 지연 번역은 LazyTranslatorTest 에서 따로 본다
+
+    @MockitoBean
+    private TranslationQueue translationQueue;
+
+    @MockitoBean
+    private CounterBuffer counterBuffer;
+
+    @MockitoBean
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @MockitoBean
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReplyService replyService;
+
+    @Test
+    void cursorWalksEveryReplyOnceWithConstantRoundTrips() {
+        User viewer = em.persist(TestFixtures.user(1000L, "KR", "EN"));
+        Debate debate = em.persist(TestFixtures.debate());
+        Comment comment = em.persist(TestFixtures.comment(debate, viewer));
+
+        for (int i = 0; i < 45; i++) {
+            User author = em.persist(TestFixtures.user(i + 1, "KR", "EN"));
+            Reply reply = em.persist(Reply.builder().comment(comment).user(author).build());
+            em.persist(TranslatedReply.builder().reply(reply).language("EN").content("reply-" + i).build());
+            em.persist(Vote.builder().debate(debate).user(author).option("찬성").nation("KR").build());
+        }
+        em.flush();
+        em.clear();
+        when(principalResolver.resolve(TOKEN)).thenReturn(Optional.of(viewer));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            Map<String, Object> page = body(replyService.getReplyPage(TOKEN, comment.getCommentId(), cursor, 10));
+
+            // 페이지 조회 + 번역/감정표현/투표 각 1회
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+            List<ReplyResDto> dtoList = replies(page);
+            assertThat(dtoList).hasSizeLessThanOrEqualTo(10).allSatisfy(dto -> {
+                assertThat(dto.getContent()).startsWith("reply-");
+                assertThat(dto.getVoteState()).isEqualTo("찬성");
+            });
+            dtoList.forEach(dto -> seen.add(dto.getReplyId()));
+            cursor = (String) page.get("nextCursor");
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(45).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void pageSizeIsClampedAndUnpagedListIsCapped() {
+        User viewer = em.persist(TestFixtures.user(1L, "KR", "EN"));
+        Debate debate = em.persist(TestFixtures.debate());
+        Comment comment = em.persist(TestFixtures.comment(debate, viewer));
+        int total = ReplyService.UNPAGED_LIMIT + 5;
+        for (int i = 0; i < total; i++) {
+            em.persist(Reply.builder().comment(comment).user(viewer).build());
+        }
+        em.flush();
+        em.clear();
+        when(principalResolver.resolve(TOKEN)).thenReturn(Optional.of(viewer));
+        long commentId = comment.getCommentId();
+
+        List<?> unpaged = (List<?>) replyService.getReply(TOKEN, commentId).getBody();
+        assertThat(unpaged).hasSize(ReplyService.UNPAGED_LIMIT);
+
+        Map<String, Object> single = body(replyService.getReplyPage(TOKEN, commentId, null, 0));
+        assertThat(replies(single)).hasSize(1);
+        assertThat(single.get("nextCursor")).isNotNull();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Map<String, Object> page = body(replyService.getReplyPage(TOKEN, commentId, cursor, 1000));
+            List<ReplyResDto> dtoList = replies(page);
+            assertThat(dtoList).hasSizeLessThanOrEqualTo(ReplyService.MAX_PAGE_SIZE);
+            dtoList.forEach(dto -> seen.add(dto.getReplyId()));
+            cursor = (String) page.get("nextCursor");
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3); // 100 + 100 + 5
+        assertThat(seen).hasSize(total).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        User viewer = em.persist(TestFixtures.user(1L, "KR", "EN"));
+        when(principalResolver.resolve(TOKEN)).thenReturn(Optional.of(viewer));
+
+        ResponseEntity<?> response = replyService.getReplyPage(TOKEN, 1L, "not-a-cursor", 10);
+
+        assertThat(response.getStatusCode().is4xxClientError()).isTrue();
+        assertThat(response.getBody()).isEqualTo("유효하지 않은 커서");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> body(ResponseEntity<?> response) {
+        assertThat(response.getStatusCode().is2xxSuccessful()).isTrue();
+        return (Map<String, Object>) response.getBody();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ReplyResDto> replies(Map<String, Object> page) {
+        return (List<ReplyResDto>) page.get("replyList");
+    }
+}
@@ -0,0 +1,107 @@
+package com.debate.service;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranslationBatcherTest {
+    private HttpServer server;
+    private ThreadPoolTaskExecutor executor;
+    private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // DeepL 대역: 받은 text 들을 "<target>:<text>" 로 돌려준다
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/translate", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            List<String> texts = new ArrayList<>();
+            String target = "";
+            for (String param : body.split("&")) {
+                String[] kv = param.split("=", 2);
+                String value = URLDecoder.decode(kv[1], StandardCharsets.UTF_8);
+                if (kv[0].equals("text")) texts.add(value);
+                if (kv[0].equals("target_lang")) target = value;
+            }
+            requests.add(texts);
+
+            StringBuilder json = new StringBuilder("{\"translations\":[");
+            for (int i = 0; i < texts.size(); i++) {
+                if (i > 0) json.append(',');
+                json.append("{\"text\":\"").append(target).append(':').append(texts.get(i)).append("\"}");
+            }
+            json.append("]}");
+            byte[] response = json.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private TranslationBatcher batcher(int maxTexts) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v2/translate";
+        return new TranslationBatcher(url, "key", new RestTemplate(), executor, new SimpleMeterRegistry(),
+                50, maxTexts, 100_000, 1_000_000, 1_000_000, Duration.ofSeconds(1));
+    }
+
+    @Test
+    void samePairWithinWindowSharesOneRequest() {
+        TranslationBatcher batcher = batcher(50);
+
+        CompletableFuture<Optional<String>> title = batcher.submit("제목", "KO", "EN");
+        CompletableFuture<Optional<String>> content = batcher.submit("내용", "KO", "EN");
+        CompletableFuture<Optional<String>> japanese = batcher.submit("제목", "KO", "JA");
+
+        assertThat(title.join()).contains("EN:제목");
+        assertThat(content.join()).contains("EN:내용");
+        assertThat(japanese.join()).contains("JA:제목");
+        assertThat(requests).hasSize(2); // KO->EN 1회, KO->JA 1회
+        assertThat(requests).contains(List.of("제목", "내용"));
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingAndSplit() {
+        TranslationBatcher batcher = batcher(3);
+
+        List<CompletableFuture<Optional<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            results.add(batcher.submit("c" + i, "EN", "KO"));
+        }
+
+        for (int i = 0; i < 7; i++) {
+            assertThat(results.get(i).join()).contains("KO:c" + i);
+        }
+        assertThat(requests).extracting(List::size).containsExactlyInAnyOrder(3, 3, 1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.debate.service;
+
+import com.debate.RepositoryTestConfig;
+import com.debate.entity.TranslationMemory;
+import com.debate.repository.TranslationMemoryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("repository")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+class TranslationMemoryServiceTest {
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TranslationMemoryRepository translationMemoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TranslationMemoryService service() {
+        return new TranslationMemoryService(translationMemoryRepository, jdbcTemplate,
+                new TransactionTemplate(transactionManager), new SimpleMeterRegistry(), 100, Duration.ofDays(30));
+    }
+
+    @Test
+    void storedTranslationIsServedFromCacheBeforeFlush() {
+        TranslationMemoryService service = service();
+        service.store("ko", "en", "동의합니다", "I agree");
+
+        assertThat(service.lookupAll("KO", List.of("동의합니다"), List.of("EN", "JA")))
+                .isEqualTo(Map.of("동의합니다", Map.of("EN", "I agree")));
+        assertThat(translationMemoryRepository.count()).isZero(); // 아직 DB 에는 쓰지 않았다
+    }
+
+    @Test
+    void flushedTranslationIsFoundInDatabaseAndLaterStoreOverwrites() {
+        TranslationMemoryService writer = service();
+        writer.store("KO", "EN", "동의합니다", "I agree");
+        writer.store("KO", "JA", "동의합니다", "同意します");
+        writer.flush();
+        writer.flush(); // 비어 있으면 아무것도 하지 않는다
+        assertThat(translationMemoryRepository.count()).isEqualTo(2);
+
+        // 캐시가 빈 새 인스턴스는 DB 에서 찾는다
+        TranslationMemoryService reader = service();
+        Map<String, Map<String, String>> found = reader.lookupAll("KO", List.of("동의합니다", "반대합니다"), List.of("EN", "JA"));
+        assertThat(found).isEqualTo(Map.of("동의합니다", Map.of("EN", "I agree", "JA", "同意します")));
+        assertThat(reader.hitRatio()).isEqualTo(0.5);
+
+        writer.store("KO", "EN", "동의합니다", "Agreed");
+        writer.flush();
+        em.clear();
+        assertThat(translationMemoryRepository.count()).isEqualTo(2);
+        assertThat(service().lookupAll("KO", List.of("동의합니다"), List.of("EN")))
+                .isEqualTo(Map.of("동의합니다", Map.of("EN", "Agreed")));
+    }
+
+    @Test
+    void purgeDeletesOnlyEntriesOlderThanMaxAge() {
+        LocalDateTime now = LocalDateTime.now();
+        em.persist(memory("오래된 문장", "old", now.minusDays(31)));
+        em.persist(memory("최근 문장", "recent", now.minusDays(1)));
+        em.flush();
+
+        service().purge();
+        em.clear();
+
+        assertThat(translationMemoryRepository.findAll())
+                .extracting(TranslationMemory::getTranslatedText)
+                .containsExactly("recent");
+    }
+
+    private TranslationMemory memory(String text, String translated, LocalDateTime createdAt) {
+        return TranslationMemory.builder()
+                .sourceLang("KO")
+                .targetLang("EN")
+                .textHash(TranslationMemoryService.hash(text))
+                .translatedText(translated)
+                .createdAt(createdAt)
+                .build();
+    }
+}
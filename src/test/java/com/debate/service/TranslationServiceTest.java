@@ -0,0 +1,101 @@
+package com.debate.service;
+
+import com.debate.dto.CommentReqDto;
+import com.debate.entity.Comment;
+import com.debate.repository.TranslatedCommentRepository;
+import com.debate.repository.TranslatedDebateRepository;
+import com.debate.repository.TranslatedReplyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TranslationServiceTest {
+    private static final String ORIGINAL = "첫 문장입니다. 둘째 문장입니다.\n셋째 문장입니다.";
+    private static final String EDITED = "첫 문장입니다. 둘째 문장을 고쳤습니다.\n셋째 문장입니다.";
+    private static final List<String> TARGETS = List.of("EN", "JA", "ZH", "DE", "FR", "ES", "RU");
+
+    private final TranslatedCommentRepository translatedCommentRepository = mock(TranslatedCommentRepository.class);
+    private final TranslationBatcher translationBatcher = mock(TranslationBatcher.class);
+    private final TranslationMemoryService translationMemoryService = mock(TranslationMemoryService.class);
+    private final Map<String, String> memory = new HashMap<>(); // "대상 언어:원문" -> 번역문
+    private TranslationService translationService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        translationService = new TranslationService(translatedCommentRepository, mock(TranslatedReplyRepository.class),
+                mock(TranslatedDebateRepository.class), mock(KafkaTemplate.class), mock(DebateSearchIndex.class),
+                mock(DebateAutocomplete.class), mock(TodaySnapshot.class), mock(DebateRecommendationPool.class),
+                translationBatcher, translationMemoryService);
+
+        // 번역 메모리 대역: store 한 것만 lookupAll 로 돌려준다
+        doAnswer(invocation -> memory.put(invocation.getArgument(1) + ":" + invocation.getArgument(2),
+                invocation.getArgument(3))).when(translationMemoryService).store(eq("KO"), anyString(), anyString(), anyString());
+        when(translationMemoryService.lookupAll(eq("KO"), anyCollection(), anyCollection())).thenAnswer(invocation -> {
+            Collection<String> texts = invocation.getArgument(1);
+            Collection<String> targets = invocation.getArgument(2);
+            Map<String, Map<String, String>> found = new HashMap<>();
+            for (String text : texts) {
+                for (String target : targets) {
+                    String translated = memory.get(target + ":" + text);
+                    if (translated != null) found.computeIfAbsent(text, t -> new HashMap<>()).put(target, translated);
+                }
+            }
+            return found;
+        });
+        when(translationBatcher.submit(anyString(), anyString(), anyString())).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(Optional.of(invocation.getArgument(2) + ":" + invocation.getArgument(0))));
+    }
+
+    private static CommentReqDto dto(String content) {
+        CommentReqDto dto = new CommentReqDto();
+        dto.setContent(content);
+        dto.setLanguage("KO");
+        return dto;
+    }
+
+    @Test
+    void newContentIsTranslatedAndRememberedSentenceBySentence() {
+        Comment comment = Comment.builder().commentId(5L).build();
+
+        translationService.translateComment(comment, dto(ORIGINAL), null);
+
+        // 언어마다 세 문장이 TranslationBatcher 에서 요청 하나로 묶인다
+        for (String sentence : List.of("첫 문장입니다.", "둘째 문장입니다.", "셋째 문장입니다.")) {
+            verify(translationBatcher, times(7)).submit(eq(sentence), eq("KO"), anyString());
+        }
+        verifyNoMoreInteractions(translationBatcher);
+        assertThat(memory).hasSize(21);
+        assertThat(TARGETS).allSatisfy(language ->
+                verify(translatedCommentRepository).save(argThat(saved -> language.equals(saved.getLanguage())
+                        && (language + ":첫 문장입니다. " + language + ":둘째 문장입니다.\n" + language + ":셋째 문장입니다.")
+                        .equals(saved.getContent()))));
+    }
+
+    @Test
+    void firstEditAfterCreateSendsOnlyTheChangedSentence() {
+        Comment comment = Comment.builder().commentId(5L).build();
+        translationService.translateComment(comment, dto(ORIGINAL), null);
+        clearInvocations(translationBatcher, translatedCommentRepository);
+
+        translationService.translateComment(comment, dto(EDITED), 5L);
+
+        verify(translationBatcher, times(7)).submit(eq("둘째 문장을 고쳤습니다."), eq("KO"), anyString());
+        verifyNoMoreInteractions(translationBatcher);
+        verify(translatedCommentRepository).save(argThat(saved -> "EN".equals(saved.getLanguage())
+                && "EN:첫 문장입니다. EN:둘째 문장을 고쳤습니다.\nEN:셋째 문장입니다.".equals(saved.getContent())));
+    }
+}
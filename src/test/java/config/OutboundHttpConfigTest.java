@@ -0,0 +1,118 @@
+package config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import util.CircuitBreaker;
+import util.CircuitOpenException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundHttpConfigTest {
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger failingHits = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 업스트림 대역: /ok 는 바로 응답, /slow 는 1초 지연, /fail 은 503
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, 200, "ok");
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "late");
+        });
+        server.createContext("/fail", exchange -> {
+            failingHits.incrementAndGet();
+            respond(exchange, 503, "down");
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        httpClient = OutboundHttpConfig.httpClient(Duration.ofMillis(500), Duration.ofMillis(200), 4, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    private RestTemplate restTemplate(CircuitBreaker breaker) {
+        return OutboundHttpConfig.restTemplate(new RestTemplateBuilder(), new SimpleMeterRegistry(), httpClient, breaker);
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    void sequentialCallsReuseOneKeepAliveConnection() {
+        RestTemplate restTemplate = restTemplate(new CircuitBreaker("stub", 10, 5, 0.5, Duration.ofSeconds(10).toNanos()));
+        for (int i = 0; i < 5; i++) {
+            assertThat(restTemplate.getForObject(url("/ok"), String.class)).isEqualTo("ok");
+        }
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void slowUpstreamHitsReadTimeout() {
+        RestTemplate restTemplate = restTemplate(new CircuitBreaker("stub", 10, 5, 0.5, Duration.ofSeconds(10).toNanos()));
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/slow"), String.class))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(900));
+    }
+
+    @Test
+    void breakerOpensAndFailsFastWithoutCallingUpstream() {
+        CircuitBreaker breaker = new CircuitBreaker("stub", 10, 5, 0.5, Duration.ofSeconds(10).toNanos());
+        RestTemplate restTemplate = restTemplate(breaker);
+
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(url("/fail"), String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> restTemplate.getForObject(url("/fail"), String.class))
+                .isInstanceOf(CircuitOpenException.class);
+        assertThat(failingHits.get()).isEqualTo(5);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private final AtomicLong now = new AtomicLong();
+
+    private CircuitBreaker breaker() {
+        return new CircuitBreaker("test", 10, 4, 0.5, 1_000_000_000L, now::get);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThresholdAfterMinimumCalls() {
+        CircuitBreaker breaker = breaker();
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED); // 최소 호출 수 전
+
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void halfOpenAllowsSingleProbeAndClosesOnSuccess() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        now.addAndGet(1_000_000_000L);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse(); // 시험 호출은 하나만
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedProbeReopens() {
+        CircuitBreaker breaker = breaker();
+        for (int i = 0; i < 4; i++) breaker.onFailure();
+        now.addAndGet(1_000_000_000L);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void oldOutcomesSlideOutOfWindow() {
+        CircuitBreaker breaker = breaker();
+        breaker.onFailure();
+        breaker.onFailure();
+        for (int i = 0; i < 10; i++) breaker.onSuccess(); // 실패 둘이 창 밖으로
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.CLOSED); // 4/10
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(CircuitBreaker.State.OPEN);   // 5/10
+    }
+}
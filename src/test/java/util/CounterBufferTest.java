@@ -0,0 +1,185 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import util.CounterBuffer.Counter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CounterBufferTest {
+    // 커밋/롤백 콜백만 필요하므로 실제 자원 없이 트랜잭션 동기화만 여는 매니저
+    private static class NoopTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoopTransactionManager());
+    private final CounterBuffer counterBuffer = new CounterBuffer(jdbcTemplate, transactionTemplate);
+
+    // sql -> id -> 반영된 합계
+    private final ConcurrentHashMap<String, ConcurrentHashMap<Long, Long>> applied = new ConcurrentHashMap<>();
+
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                applied.computeIfAbsent(sql, s -> new ConcurrentHashMap<>()).merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+            return new int[rows.size()];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+
+    private long applied(String column, long id) {
+        return applied.entrySet().stream()
+                .filter(entry -> entry.getKey().contains("SET " + column + " "))
+                .mapToLong(entry -> entry.getValue().getOrDefault(id, 0L))
+                .sum();
+    }
+
+    @Test
+    void flushSendsOneBatchPerCounterWithMergedDeltas() {
+        recordBatches();
+        counterBuffer.add(Counter.DEBATE_VIEWS, 1L, 1);
+        counterBuffer.add(Counter.DEBATE_VIEWS, 1L, 2);
+        counterBuffer.add(Counter.DEBATE_VIEWS, 2L, 5);
+        counterBuffer.add(Counter.COMMENT_HEART, 7L, 1);
+        counterBuffer.add(Counter.COMMENT_HEART, 7L, -1); // 합이 0 이면 보내지 않는다
+        counterBuffer.add(Counter.DEBATE_VOTE_CNT, 1L, 0);
+
+        assertThat(counterBuffer.get(Counter.DEBATE_VIEWS, 1L, 10L)).isEqualTo(13L);
+
+        counterBuffer.flush();
+
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+        assertThat(applied("views", 1L)).isEqualTo(3L);
+        assertThat(applied("views", 2L)).isEqualTo(5L);
+        assertThat(counterBuffer.pending(Counter.DEBATE_VIEWS, 1L)).isZero();
+    }
+
+    @Test
+    void failedBatchIsRequeued() {
+        doThrow(new IllegalStateException("db down")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+        counterBuffer.add(Counter.DEBATE_COMMENT_CNT, 3L, 4);
+
+        counterBuffer.flush();
+
+        assertThat(counterBuffer.pending(Counter.DEBATE_COMMENT_CNT, 3L)).isEqualTo(4L);
+    }
+
+    @Test
+    void deltasInsideTransactionAreBufferedOnlyAfterCommit() {
+        transactionTemplate.executeWithoutResult(status -> {
+            counterBuffer.add(Counter.DEBATE_VOTE_CNT, 1L, 1);
+            // 같은 트랜잭션 안에서는 자기 변경이 보인다
+            assertThat(counterBuffer.get(Counter.DEBATE_VOTE_CNT, 1L, 0L)).isEqualTo(1L);
+        });
+        assertThat(counterBuffer.pending(Counter.DEBATE_VOTE_CNT, 1L)).isEqualTo(1L);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            counterBuffer.add(Counter.DEBATE_VOTE_CNT, 1L, 1);
+            status.setRollbackOnly();
+        });
+        assertThat(counterBuffer.pending(Counter.DEBATE_VOTE_CNT, 1L)).isEqualTo(1L);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                counterBuffer.add(Counter.DEBATE_VOTE_CNT, 1L, 1);
+                throw new IllegalStateException("rollback");
+            });
+        } catch (IllegalStateException ignored) {
+        }
+        assertThat(counterBuffer.pending(Counter.DEBATE_VOTE_CNT, 1L)).isEqualTo(1L);
+    }
+
+    @Test
+    void concurrentAddsAreNotLostWhileFlushing() throws Exception {
+        recordBatches();
+        int threads = 8;
+        int addsPerThread = 20_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean adding = new AtomicBoolean(true);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < addsPerThread; i++) {
+                    counterBuffer.add(Counter.DEBATE_VIEWS, (long) (i % 4), 1);
+                }
+                return null;
+            }));
+        }
+        Thread flusher = new Thread(() -> {
+            while (adding.get()) {
+                counterBuffer.flush();
+            }
+        });
+        flusher.start();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        adding.set(false);
+        flusher.join();
+        pool.shutdown();
+
+        counterBuffer.flush();
+        long total = 0;
+        for (long id = 0; id < 4; id++) {
+            total += applied("views", id);
+        }
+        assertThat(total).isEqualTo((long) threads * addsPerThread);
+    }
+
+    @Test
+    void pendingDeltasAreFlushedOnShutdown() {
+        recordBatches();
+        counterBuffer.add(Counter.COMMENT_REPLY_CNT, 9L, 2);
+
+        counterBuffer.flushOnShutdown();
+
+        assertThat(applied("reply_cnt", 9L)).isEqualTo(2L);
+        assertThat(counterBuffer.pending(Counter.COMMENT_REPLY_CNT, 9L)).isZero();
+
+        counterBuffer.flushOnShutdown(); // 남은 게 없으면 아무것도 보내지 않는다
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+    }
+}
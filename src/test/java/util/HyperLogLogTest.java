@@ -0,0 +1,55 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HyperLogLogTest {
+    @Test
+    void estimatesStayWithinErrorBoundAcrossCardinalities() {
+        for (int precision : new int[]{10, 14}) {
+            double standardError = 1.04 / Math.sqrt(1 << precision);
+            for (long cardinality : new long[]{100, 1_000, 10_000, 100_000, 1_000_000}) {
+                HyperLogLog hll = new HyperLogLog(precision);
+                for (long i = 0; i < cardinality; i++) {
+                    hll.offer(HyperLogLog.hash(i));
+                }
+
+                double error = Math.abs(hll.estimate() - cardinality) / (double) cardinality;
+                assertThat(error).as("precision=%d, n=%d", precision, cardinality).isLessThan(4 * standardError);
+            }
+        }
+    }
+
+    @Test
+    void smallCardinalitiesAreNearlyExact() {
+        HyperLogLog hll = new HyperLogLog(10);
+        assertThat(hll.estimate()).isZero();
+        for (long i = 1; i <= 10; i++) {
+            hll.offer(HyperLogLog.hash(i));
+            assertThat(hll.estimate()).isEqualTo(i); // linear counting 구간
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog hll = new HyperLogLog(10);
+        for (long i = 0; i < 5_000; i++) {
+            hll.offer(HyperLogLog.hash(i));
+        }
+        long estimate = hll.estimate();
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (long i = 0; i < 5_000; i++) {
+                hll.offer(HyperLogLog.hash(i));
+            }
+        }
+        assertThat(hll.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    void rejectsPrecisionOutOfRange() {
+        assertThatThrownBy(() -> new HyperLogLog(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(17)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.InvertedIndex.Field;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+    @Test
+    void koreanMatchesSubstringsThroughBigrams() {
+        InvertedIndex index = new InvertedIndex(true);
+        index.put(1L, "정치", "기본소득 도입에 찬성하십니까", "재원 마련 방안");
+        index.put(2L, "경제", "최저임금 인상", "기본소득과는 다른 문제");
+        index.put(3L, "정치", "선거 제도 개편", "비례대표");
+
+        assertThat(index.search("소득", "전체", Field.ANY)).containsExactly(1L, 2L); // 제목 일치가 먼저
+        assertThat(index.search("소득", "경제", Field.ANY)).containsExactly(2L);
+        assertThat(index.search("소득", "전체", Field.TITLE)).containsExactly(1L);
+        assertThat(index.search("선", "전체", Field.TITLE)).containsExactly(3L);
+        assertThat(index.search("소득 개편", "전체", Field.ANY)).isEmpty();
+    }
+
+    @Test
+    void wordLanguagesMatchNormalizedWords() {
+        InvertedIndex index = new InvertedIndex(false);
+        index.put(1L, "정치", "Should voting be MANDATORY?", "Compulsory voting exists in Australia.");
+        index.put(2L, "정치", "Voting age", "Lower it to sixteen");
+
+        assertThat(index.search("voting", "전체", Field.TITLE)).containsExactly(2L, 1L); // 동점이면 최신 id
+        assertThat(index.search("mandatory voting", "전체", Field.ANY)).containsExactly(1L);
+        assertThat(index.search("australia", "전체", Field.TITLE)).isEmpty();
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsDocument() {
+        InvertedIndex index = new InvertedIndex(false);
+        index.put(1L, "정치", "old title", "body");
+        index.put(1L, "정치", "new title", "body");
+
+        assertThat(index.search("old", "전체", Field.ANY)).isEmpty();
+        assertThat(index.search("new", "전체", Field.ANY)).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("title", "전체", Field.ANY)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
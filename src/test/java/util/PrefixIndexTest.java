@@ -0,0 +1,68 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+    @Test
+    void completesTitleAndWordPrefixesByWeight() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "기본소득 도입", 10);
+        index.put(2L, "기후 위기 대응", 50);
+        index.put(3L, "청년 기본소득", 30);
+
+        assertThat(ids(index.complete("기", 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.complete("기본", 10))).containsExactly(3L, 1L);
+        assertThat(ids(index.complete("기본", 1))).containsExactly(3L);
+        assertThat(ids(index.complete("위기", 10))).containsExactly(2L);
+        assertThat(index.complete("소득", 10)).isEmpty(); // 단어 중간은 접두어가 아님
+    }
+
+    @Test
+    void keepsOnlyTopKPerNode() {
+        PrefixIndex index = new PrefixIndex();
+        for (long id = 1; id <= PrefixIndex.TOP_K + 5; id++) {
+            index.put(id, "Vote " + id, id);
+        }
+
+        List<Map.Entry<Long, String>> result = index.complete("vo", 3);
+        assertThat(ids(result)).containsExactly(PrefixIndex.TOP_K + 5L, PrefixIndex.TOP_K + 4L, PrefixIndex.TOP_K + 3L);
+        assertThat(result.get(0).getValue()).isEqualTo("Vote " + (PrefixIndex.TOP_K + 5));
+    }
+
+    @Test
+    void removedAndRenamedTitlesAreFiltered() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "old name", 5);
+        index.put(2L, "other", 1);
+        index.put(1L, "new name", 5);
+        index.remove(2L);
+
+        assertThat(index.complete("old", 10)).isEmpty();
+        assertThat(ids(index.complete("new", 10))).containsExactly(1L);
+        assertThat(index.complete("oth", 10)).isEmpty();
+    }
+
+    @Test
+    void reAddingKeepsWeightAndDropsOldPaths() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "기본소득 도입", 100);
+        index.put(2L, "기본권 보장", 50);
+        index.put(1L, "기본소득 도입", 0); // 번역 재시도 등으로 같은 제목이 다시 들어옴
+        assertThat(ids(index.complete("기본", 10))).containsExactly(1L, 2L);
+
+        index.put(1L, "기본소득 폐지", 0); // 제목 수정. 가중치는 다음 재구성까지 유지
+        assertThat(ids(index.complete("기본", 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.complete("폐지", 10))).containsExactly(1L);
+        assertThat(index.complete("도입", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static List<Long> ids(List<Map.Entry<Long, String>> entries) {
+        return entries.stream().map(Map.Entry::getKey).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package util;
+
+import com.debate.entity.User;
+import com.debate.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PrincipalResolverTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrincipalResolver principalResolver = new PrincipalResolver(mock(JwtUtil.class), userRepository,
+            new SimpleMeterRegistry(), 100, Duration.ofHours(1));
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictInsideTransactionWaitsForCommit() {
+        User user = User.builder().userId(1L).name("user1").ban(0).build();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        TransactionSynchronizationManager.initSynchronization(); // deleteUser 트랜잭션
+        principalResolver.evict(1L);
+        // 커밋 전에 다른 요청이 캐시 미스로 아직 남아 있는 행을 다시 읽는다
+        assertThat(principalResolver.findUser(1L)).isPresent();
+
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(principalResolver.findUser(1L)).isEmpty();
+    }
+
+    @Test
+    void evictOutsideTransactionIsImmediate() {
+        principalResolver.put(User.builder().userId(2L).name("user2").ban(0).build());
+        when(userRepository.findById(2L)).thenReturn(Optional.empty());
+
+        principalResolver.evict(2L);
+
+        assertThat(principalResolver.findUser(2L)).isEmpty();
+    }
+}
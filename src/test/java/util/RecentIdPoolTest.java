@@ -0,0 +1,66 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentIdPoolTest {
+    @Test
+    void samplesDistinctIdsAndReturnsAllWhenPoolIsSmall() {
+        RecentIdPool pool = new RecentIdPool();
+        for (long id = 1; id <= 100; id++) {
+            pool.add(id);
+        }
+        pool.add(1L); // 중복은 무시
+
+        List<Long> sample = pool.sample(10, new Random(7));
+        assertThat(sample).hasSize(10).doesNotHaveDuplicates().allMatch(id -> id >= 1 && id <= 100);
+        assertThat(pool.size()).isEqualTo(100);
+
+        RecentIdPool small = new RecentIdPool();
+        small.add(5L);
+        small.add(6L);
+        assertThat(small.sample(3, new Random(7))).containsExactlyInAnyOrder(5L, 6L);
+        assertThat(new RecentIdPool().sample(2, new Random(7))).isEmpty();
+    }
+
+    @Test
+    void removedIdsAreNeverSampled() {
+        RecentIdPool pool = new RecentIdPool();
+        for (long id = 1; id <= 10; id++) {
+            pool.add(id);
+        }
+        pool.remove(1L);
+        pool.remove(10L);
+        pool.remove(42L);
+
+        assertThat(pool.size()).isEqualTo(8);
+        assertThat(pool.sample(8, new Random(7))).containsExactlyInAnyOrder(2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    void everyIdIsEquallyLikely() {
+        RecentIdPool pool = new RecentIdPool();
+        for (long id = 0; id < 20; id++) {
+            pool.add(id);
+        }
+
+        Map<Long, Integer> hits = new HashMap<>();
+        Random random = new Random(42);
+        int rounds = 20_000;
+        for (int i = 0; i < rounds; i++) {
+            for (Long id : pool.sample(3, random)) {
+                hits.merge(id, 1, Integer::sum);
+            }
+        }
+
+        double expected = rounds * 3 / 20.0;
+        assertThat(hits).hasSize(20);
+        assertThat(hits.values()).allSatisfy(count -> assertThat(Math.abs(count - expected)).isLessThan(expected * 0.1));
+    }
+}
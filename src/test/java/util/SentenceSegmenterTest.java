@@ -0,0 +1,54 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.SentenceSegmenter.Segment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SentenceSegmenterTest {
+    @Test
+    void splitsSentencesAndLinesWithoutLosingWhitespace() {
+        String text = "  I agree. But why?\n\nTaxes are high!  ";
+        List<Segment> segments = SentenceSegmenter.split(text, "EN");
+
+        assertThat(segments).filteredOn(segment -> !segment.isBlank())
+                .extracting(Segment::sentence)
+                .containsExactly("I agree.", "But why?", "Taxes are high!");
+        assertThat(SentenceSegmenter.join(segments, segments.stream().map(Segment::sentence).toList()))
+                .isEqualTo(text);
+    }
+
+    @Test
+    void joinReplacesOnlySentences() {
+        List<Segment> segments = SentenceSegmenter.split("찬성합니다. 이유는\n세금입니다.", "KO");
+        List<String> translated = segments.stream()
+                .map(segment -> segment.isBlank() ? null : "[" + segment.sentence() + "]")
+                .toList();
+
+        assertThat(SentenceSegmenter.join(segments, translated)).isEqualTo("[찬성합니다.] [이유는]\n[세금입니다.]");
+    }
+
+    @Test
+    void editedTextSharesUnchangedSentences() {
+        List<String> before = sentences("First point. Second pont. Third point.");
+        List<String> after = sentences("First point. Second point. Third point.");
+
+        assertThat(after).containsAll(List.of("First point.", "Third point."));
+        assertThat(after.stream().filter(sentence -> !before.contains(sentence))).containsExactly("Second point.");
+    }
+
+    @Test
+    void emptyTextHasNoSegments() {
+        assertThat(SentenceSegmenter.split("", "EN")).isEmpty();
+        assertThat(SentenceSegmenter.split(null, "EN")).isEmpty();
+    }
+
+    private static List<String> sentences(String text) {
+        return SentenceSegmenter.split(text, "EN").stream()
+                .filter(segment -> !segment.isBlank())
+                .map(Segment::sentence)
+                .toList();
+    }
+}
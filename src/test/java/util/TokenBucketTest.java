@@ -0,0 +1,49 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void burstThenRefillAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(100, 10, now::get);
+
+        assertThat(bucket.tryAcquire(60)).isTrue();
+        assertThat(bucket.tryAcquire(60)).isFalse();
+
+        now.addAndGet(2_000_000_000L); // 2초 -> 20개 충전
+        assertThat(bucket.tryAcquire(60)).isTrue();
+        assertThat(bucket.available()).isEqualTo(0.0);
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(100, 10, now::get);
+        now.addAndGet(60_000_000_000L);
+        assertThat(bucket.available()).isEqualTo(100.0);
+    }
+
+    @Test
+    void requestLargerThanCapacityPassesWhenFullAndLeavesDebt() {
+        TokenBucket bucket = new TokenBucket(100, 10, now::get);
+
+        assertThat(bucket.tryAcquire(250)).isTrue();
+        assertThat(bucket.available()).isEqualTo(-150.0);
+        assertThat(bucket.tryAcquire(1)).isFalse();
+
+        now.addAndGet(16_000_000_000L); // 빚 150 을 갚고 10개 남음
+        assertThat(bucket.tryAcquire(10)).isTrue();
+    }
+
+    @Test
+    void acquireGivesUpWhenWaitWouldExceedDeadline() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(10, 1);
+        assertThat(bucket.acquire(10, 0)).isTrue();
+        assertThat(bucket.acquire(5, 100_000_000L)).isFalse(); // 5초 필요, 0.1초만 기다림
+    }
+}
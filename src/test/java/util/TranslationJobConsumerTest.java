@@ -0,0 +1,134 @@
+package util;
+
+import com.debate.dto.CommentReqDto;
+import com.debate.dto.TranslationDispatchDto;
+import com.debate.entity.Comment;
+import com.debate.entity.TranslationOutbox;
+import com.debate.repository.CommentRepository;
+import com.debate.repository.DebateRepository;
+import com.debate.repository.ReplyRepository;
+import com.debate.repository.TranslationOutboxRepository;
+import com.debate.service.TranslationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+        classes = {KafkaAutoConfiguration.class, JacksonAutoConfiguration.class,
+                TranslationJobConsumer.class, TranslationJobConsumerTest.Config.class},
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "translation.kafka.topic=translation-jobs",
+                "translation.kafka.group-id=translation-test",
+                "translation.kafka.max-poll-records=10",
+                "translation.workers=3",
+                "translation.outbox.max-attempts=3",
+                "translation.outbox.base-backoff=1s",
+                "translation.outbox.max-backoff=1m"
+        })
+@EmbeddedKafka(partitions = 3, topics = "translation-jobs")
+class TranslationJobConsumerTest {
+    @TestConfiguration
+    static class Config {
+        @Bean
+        TransactionTemplate transactionTemplate() {
+            return new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class));
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private TranslationOutboxRepository outboxRepository;
+
+    @MockitoBean
+    private DebateRepository debateRepository;
+
+    @MockitoBean
+    private CommentRepository commentRepository;
+
+    @MockitoBean
+    private ReplyRepository replyRepository;
+
+    @MockitoBean
+    private TranslationService translationService;
+
+    @Test
+    void jobsOfSameEntityRunInPublishOrderAndStaleDispatchIsSkipped() throws Exception {
+        Comment comment = Comment.builder().commentId(42L).build();
+        when(commentRepository.findById(42L)).thenReturn(Optional.of(comment));
+
+        List<String> handled = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(5);
+        doAnswer(invocation -> {
+            TranslationJob job = invocation.getArgument(0);
+            handled.add(((CommentReqDto) job.getDto()).getContent());
+            done.countDown();
+            return null;
+        }).when(translationService).handleJob(any());
+
+        // 99 번은 다시 발행되기 전의 메시지 (startRun 이 0 을 돌려준다)
+        publish(99L, 1);
+        for (long id = 1; id <= 5; id++) {
+            CommentReqDto dto = new CommentReqDto();
+            dto.setContent("v" + id);
+            dto.setLanguage("KO");
+            TranslationOutbox row = TranslationOutbox.builder()
+                    .id(id).aggregateType("comment").aggregateId(42L).edit(id > 1)
+                    .payload(objectMapper.writeValueAsString(dto))
+                    .status(TranslationOutbox.PROCESSING).attempts(1)
+                    .build();
+            when(outboxRepository.startRun(eq(id), eq(1), any())).thenReturn(1);
+            when(outboxRepository.findById(id)).thenReturn(Optional.of(row));
+            publish(id, 1);
+        }
+
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).containsExactly("v1", "v2", "v3", "v4", "v5");
+        Mockito.verify(outboxRepository, Mockito.never()).findById(99L);
+        for (long id = 1; id <= 5; id++) {
+            Mockito.verify(outboxRepository, Mockito.timeout(5000)).deleteById(id);
+        }
+    }
+
+    private void publish(long outboxId, int attempts) throws Exception {
+        String message = objectMapper.writeValueAsString(
+                TranslationDispatchDto.builder().outboxId(outboxId).attempts(attempts).build());
+        kafkaTemplate.send("translation-jobs", "comment:42", message).get(10, TimeUnit.SECONDS);
+    }
+}
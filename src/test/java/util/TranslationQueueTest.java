@@ -0,0 +1,104 @@
+package util;
+
+import com.debate.entity.TranslationOutbox;
+import com.debate.repository.TranslationOutboxRepository;
+import com.debate.service.TranslationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranslationQueueTest {
+    private static final List<String> IN_FLIGHT = List.of(TranslationOutbox.PROCESSING, TranslationOutbox.RUNNING);
+    private static final List<String> BACKLOG =
+            List.of(TranslationOutbox.PENDING, TranslationOutbox.PROCESSING, TranslationOutbox.RUNNING);
+
+    private final TranslationOutboxRepository outboxRepository = mock(TranslationOutboxRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+    private final TranslationService translationService = mock(TranslationService.class);
+
+    // partitions 2 * max-poll-records 5 = 발행 중 작업 최대 10개, max-pending 100
+    private final TranslationQueue queue = new TranslationQueue(outboxRepository, kafkaTemplate, new ObjectMapper(),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), translationService, new SimpleMeterRegistry(),
+            "translation-jobs", 8, 2, 5, Duration.ofMinutes(15), 100, Duration.ofDays(30));
+
+    @Test
+    void relayPublishesOnlyWhatConsumersCanTake() {
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+        when(outboxRepository.lockClaimable(any(), anyInt())).thenAnswer(invocation -> ids(invocation.getArgument(1)));
+        when(outboxRepository.findAllById(any())).thenAnswer(invocation -> rows(invocation.getArgument(0)));
+
+        when(outboxRepository.countByStatusIn(IN_FLIGHT)).thenReturn(0L);
+        queue.relay();
+        verify(outboxRepository).lockClaimable(any(), eq(8)); // relay-batch-size 가 먼저 걸린다
+
+        when(outboxRepository.countByStatusIn(IN_FLIGHT)).thenReturn(7L);
+        queue.relay();
+        verify(outboxRepository).lockClaimable(any(), eq(3));
+        verify(kafkaTemplate, times(11)).send(anyString(), anyString(), anyString());
+
+        // 컨슈머가 밀려 있으면 outbox 에 남겨 두고 발행하지 않는다
+        when(outboxRepository.countByStatusIn(IN_FLIGHT)).thenReturn(10L);
+        queue.relay();
+        verify(outboxRepository, times(2)).lockClaimable(any(), anyInt());
+        verify(outboxRepository, times(2)).markProcessing(any(), any());
+        verify(kafkaTemplate, times(11)).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void admitsCountsJobsAlreadyPublishedAndShedsLowPriorityFirst() {
+        when(outboxRepository.countByStatusIn(IN_FLIGHT)).thenReturn(10L); // 발행하지 않고 기준값만 갱신
+        assertThat(queue.admits("reply", false)).isTrue();
+
+        // 대기 중인 PENDING 은 거의 없어도 발행/실행 중인 작업까지 합쳐서 본다
+        when(outboxRepository.countByStatusIn(BACKLOG)).thenReturn(85L);
+        queue.relay();
+        assertThat(queue.admits("debate", false)).isTrue();   // 100%
+        assertThat(queue.admits("comment", false)).isTrue();  // 90%
+        assertThat(queue.admits("reply", false)).isFalse();   // 80%
+        assertThat(queue.admits("comment", true)).isFalse();  // 수정 70%
+
+        when(outboxRepository.countByStatusIn(BACKLOG)).thenReturn(100L);
+        queue.relay();
+        assertThat(queue.admits("debate", false)).isFalse();
+
+        when(translationService.isLazy("reply")).thenReturn(true); // 지연 번역은 대기열을 거치지 않는다
+        assertThat(queue.admits("reply", false)).isTrue();
+        verify(outboxRepository, never()).lockClaimable(any(), anyInt());
+    }
+
+    private static List<Long> ids(int limit) {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= limit; id++) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private static List<TranslationOutbox> rows(Iterable<Long> ids) {
+        List<TranslationOutbox> rows = new ArrayList<>();
+        for (Long id : ids) {
+            rows.add(TranslationOutbox.builder().id(id).aggregateType("reply").aggregateId(id).attempts(1).build());
+        }
+        return rows;
+    }
+}
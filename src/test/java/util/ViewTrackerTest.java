@@ -0,0 +1,100 @@
+package util;
+
+import org.junit.jupiter.api.Test;
+import util.CounterBuffer.Counter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ViewTrackerTest {
+    // 테스트에서 시간을 앞으로 넘길 수 있는 시계
+    private static class MovableClock extends Clock {
+        private Instant now = Instant.parse("2026-03-01T23:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private final CounterBuffer counterBuffer = mock(CounterBuffer.class);
+    private final MovableClock clock = new MovableClock();
+    private final ViewTracker viewTracker = new ViewTracker(counterBuffer, 10, clock);
+
+    @Test
+    void repeatedViewsBySameUserCountOnce() {
+        for (int i = 0; i < 100; i++) {
+            viewTracker.record(1L, 7L);
+        }
+        for (long user = 100; user < 130; user++) {
+            viewTracker.record(2L, user);
+        }
+
+        assertThat(viewTracker.pending(1L)).isEqualTo(1L);
+        long distinct = viewTracker.pending(2L); // 추정치. 해시 충돌로 실제보다 조금 작을 수 있다
+        assertThat(distinct).isBetween(28L, 32L);
+        assertThat(viewTracker.pending(3L)).isZero();
+
+        viewTracker.flush();
+        verify(counterBuffer).add(Counter.DEBATE_VIEWS, 1L, 1L);
+        verify(counterBuffer).add(Counter.DEBATE_VIEWS, 2L, distinct);
+        assertThat(viewTracker.pending(1L)).isZero();
+
+        // 이미 반영한 유저가 다시 봐도 더하지 않고, 새 유저만 더한다
+        viewTracker.record(1L, 7L);
+        viewTracker.record(1L, 8L);
+        viewTracker.flush();
+        verify(counterBuffer, times(2)).add(Counter.DEBATE_VIEWS, 1L, 1L);
+        verifyNoMoreInteractions(counterBuffer);
+    }
+
+    @Test
+    void dayRolloverCarriesUnflushedViewsAndCountsUsersAgain() {
+        for (long user = 1; user <= 10; user++) {
+            viewTracker.record(1L, user);
+        }
+
+        clock.advance(Duration.ofHours(2)); // 다음 날
+        viewTracker.record(1L, 1L);
+
+        verify(counterBuffer).add(Counter.DEBATE_VIEWS, 1L, 10L); // 전날 남은 분
+        assertThat(viewTracker.pending(1L)).isEqualTo(1L);      // 같은 유저도 날짜가 바뀌면 다시 센다
+    }
+
+    @Test
+    void flushDropsSketchesOfPastDays() {
+        viewTracker.record(1L, 1L);
+        viewTracker.flush();
+
+        clock.advance(Duration.ofHours(2));
+        viewTracker.flush(); // 반영할 분이 없는 전날 스케치는 정리된다
+
+        assertThat(viewTracker.pending(1L)).isZero();
+        verify(counterBuffer, times(1)).add(eq(Counter.DEBATE_VIEWS), eq(1L), anyLong());
+
+        viewTracker.record(1L, 1L);
+        assertThat(viewTracker.pending(1L)).isEqualTo(1L);
+    }
+}